@@ -1,8 +1,10 @@
 package com.trendchat.apigatewayservice;
 
+import com.trendchat.apigatewayservice.config.HttpExchangeProperties;
+import com.trendchat.apigatewayservice.util.SamplingHttpExchangeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.actuate.web.exchanges.HttpExchangeRepository;
-import org.springframework.boot.actuate.web.exchanges.InMemoryHttpExchangeRepository;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 
@@ -14,7 +16,8 @@ public class ApiGatewayServiceApplication {
     }
 
     @Bean
-    public HttpExchangeRepository httpExchangeRepository() {
-        return new InMemoryHttpExchangeRepository();
+    public HttpExchangeRepository httpExchangeRepository(HttpExchangeProperties properties,
+            MeterRegistry meterRegistry) {
+        return new SamplingHttpExchangeRepository(properties, meterRegistry);
     }
 }
@@ -0,0 +1,26 @@
+package com.trendchat.apigatewayservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * {@code /actuator/httpexchanges}용 요청 기록 설정입니다.
+ * <p>
+ * 일반 요청은 {@code sampleRate} 비율로만 기록해 최근 {@code capacity}개를 유지하고, 처리 시간이 {@code slowThreshold} 이상인 요청은
+ * 샘플링과 무관하게 별도 버퍼에 최근 {@code slowCapacity}개를 유지합니다.
+ * </p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "gateway.exchanges")
+public class HttpExchangeProperties {
+    private int capacity = 100;
+    private double sampleRate = 0.01;
+    private Duration slowThreshold = Duration.ofSeconds(1);
+    private int slowCapacity = 100;
+}
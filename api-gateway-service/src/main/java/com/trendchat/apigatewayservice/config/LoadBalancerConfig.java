@@ -0,0 +1,15 @@
+package com.trendchat.apigatewayservice.config;
+
+import com.trendchat.apigatewayservice.loadbalancer.PeakEwmaLoadBalancerConfiguration;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 모든 {@code lb://} 라우트에 peak-EWMA 로드밸런서를 기본으로 적용합니다.
+ *
+ * @see PeakEwmaLoadBalancerConfiguration
+ */
+@Configuration
+@LoadBalancerClients(defaultConfiguration = PeakEwmaLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+}
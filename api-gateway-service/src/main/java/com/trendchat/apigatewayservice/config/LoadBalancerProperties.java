@@ -0,0 +1,32 @@
+package com.trendchat.apigatewayservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Peak-EWMA 로드밸런서 설정입니다.
+ * <p>
+ * 인스턴스 비용은 관측 지연 시간의 peak-EWMA({@code decay} 시간 상수)에 진행 중인 요청 수 + 1을 곱한 값이며, 아직 관측값이 없는 인스턴스는
+ * {@code defaultLatency}를 사용합니다. 연속 {@code failureThreshold}회 실패하거나, 응답 지연 시간이 최근 {@code decay} 구간 안에
+ * 관측된 다른 인스턴스 지연 시간(감쇠 전) 중앙값의 {@code outlierFactor}배를 연속 {@code outlierConsecutiveSamples}회 넘으면
+ * {@code ejectionDuration} 동안 선택에서 제외합니다. 단, 전체 인스턴스 중 최대
+ * {@code maxEjectionPercent}%까지만 제외합니다.
+ * </p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "gateway.loadbalancer")
+public class LoadBalancerProperties {
+    private Duration decay = Duration.ofSeconds(10);
+    private Duration defaultLatency = Duration.ofMillis(100);
+    private int failureThreshold = 5;
+    private double outlierFactor = 3.0;
+    private int outlierConsecutiveSamples = 3;
+    private Duration ejectionDuration = Duration.ofSeconds(30);
+    private int maxEjectionPercent = 50;
+}
@@ -0,0 +1,45 @@
+package com.trendchat.apigatewayservice.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 게이트웨이 요청 지연 시간 메트릭 설정입니다.
+ * <p>
+ * 라우트별 요청 타이머({@code spring.cloud.gateway.requests}, {@code routeId} 태그)와 서버 요청 타이머
+ * ({@code http.server.requests})에 히스토그램 버킷을 켜서, 요청 기록을 샘플링하더라도 모든 요청의 p50/p99 지연 시간을 Prometheus에서
+ * 계산할 수 있도록 합니다. 버킷 범위는 1ms ~ 30s로 제한합니다.
+ * </p>
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final Set<String> LATENCY_METERS = Set.of(
+            "spring.cloud.gateway.requests",
+            "http.server.requests"
+    );
+
+    @Bean
+    public MeterFilter gatewayLatencyHistogramFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!LATENCY_METERS.contains(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(30).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package com.trendchat.apigatewayservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 게이트웨이 토큰 버킷 요청 제한 설정입니다.
+ * <p>
+ * {@code rules}의 각 항목은 경로 패턴(과 선택적으로 HTTP 메서드)에 대해 사용자별 버킷 용량({@code capacity})과 초당 충전량
+ * ({@code refillPerSecond})을 정합니다. 설정 서버에서 값을 바꾸면 {@code /actuator/refresh} 또는 Bus 갱신 시 다시 바인딩됩니다.
+ * </p>
+ * <p>
+ * 게이트웨이 인스턴스는 Redis 버킷에서 최대 {@code leaseSize}개의 토큰을 미리 가져와 {@code leaseTtl} 동안 로컬에서 소비하므로, 한도에
+ * 한참 못 미치는 클라이언트는 대부분 Redis를 거치지 않습니다. 쓰지 못한 토큰은 만료와 함께 버려지므로 실제 허용량은 한도를 넘지 않습니다.
+ * </p>
+ * <p>
+ * 토큰 없는 요청은 클라이언트 IP로 구분합니다. 게이트웨이 앞에 로드밸런서나 리버스 프록시가 있으면 {@code trustedProxyHops}를 그 수로
+ * 지정해야 모든 요청이 프록시 IP 하나의 버킷을 나눠 쓰지 않습니다. 프록시 없이 클라이언트가 직접 접속하는 배포에서 이 값을 올리면
+ * 클라이언트가 {@code X-Forwarded-For}를 위조해 제한을 피할 수 있으므로 기본값은 0(접속 주소 사용)입니다.
+ * </p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private Duration leaseTtl = Duration.ofSeconds(1);
+    // 게이트웨이 앞 신뢰할 프록시 수 (0이면 X-Forwarded-For를 무시)
+    private int trustedProxyHops = 0;
+    private Map<String, Rule> rules = defaultRules();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private String path;
+        // 비어 있으면 모든 메서드
+        private String method;
+        private long capacity;
+        private double refillPerSecond;
+        // 한 번에 Redis에서 가져올 토큰 수 (1이면 매 요청 Redis 조회)
+        private int leaseSize = 1;
+
+        public Rule() {
+        }
+
+        Rule(String path, String method, long capacity, double refillPerSecond, int leaseSize) {
+            this.path = path;
+            this.method = method;
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+            this.leaseSize = leaseSize;
+        }
+    }
+
+    private static Map<String, Rule> defaultRules() {
+        Map<String, Rule> rules = new LinkedHashMap<>();
+        rules.put("chat-send", new Rule("/api/v1/chat/send", "POST", 20, 5, 4));
+        rules.put("chat-stream", new Rule("/api/v1/chat/stream", "GET", 10, 0.2, 1));
+        return rules;
+    }
+}
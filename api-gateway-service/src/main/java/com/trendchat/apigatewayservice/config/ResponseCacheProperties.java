@@ -0,0 +1,62 @@
+package com.trendchat.apigatewayservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게이트웨이 응답 캐시 설정입니다.
+ * <p>
+ * {@code rules}의 각 항목은 사용자와 무관한 공개 {@code GET} 경로, 캐시 유지 시간({@code ttl}), 캐시 키에 포함할 쿼리 파라미터
+ * ({@code queryParams})를 정합니다. 캐시 키는 경로와, 허용된 파라미터를 이름순으로 정렬한 쿼리 문자열입니다. 그 외 파라미터는 키에서
+ * 제외되므로 임의의 파라미터로 캐시 항목을 늘릴 수 없습니다.
+ * </p>
+ * <p>
+ * 캐시 전체 크기는 본문 바이트 합계 기준 {@code maxSize}로 제한하며, 본문이 {@code maxBodySize}를 넘는 응답은 캐시하지 않습니다.
+ * </p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "gateway.response-cache")
+public class ResponseCacheProperties {
+    private boolean enabled = true;
+    private DataSize maxSize = DataSize.ofMegabytes(32);
+    private DataSize maxBodySize = DataSize.ofKilobytes(256);
+    private Map<String, Rule> rules = defaultRules();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private String path;
+        private Duration ttl;
+        private List<String> queryParams = List.of();
+
+        public Rule() {
+        }
+
+        Rule(String path, Duration ttl, List<String> queryParams) {
+            this.path = path;
+            this.ttl = ttl;
+            this.queryParams = queryParams;
+        }
+    }
+
+    private static Map<String, Rule> defaultRules() {
+        Map<String, Rule> rules = new LinkedHashMap<>();
+        rules.put("trend-keywords-top10", new Rule("/api/v1/trend-keywords/top10", Duration.ofSeconds(5), List.of()));
+        rules.put("trend-news-top6", new Rule("/api/v1/trends/news/top6", Duration.ofSeconds(30), List.of()));
+        rules.put("trends", new Rule("/api/v1/trends", Duration.ofSeconds(5),
+                List.of("major", "sub", "search", "sort", "page", "size")));
+        rules.put("room-stats-top5", new Rule("/api/v1/rooms/stats/top5", Duration.ofSeconds(5),
+                List.of("limit", "hours")));
+        return rules;
+    }
+}
@@ -0,0 +1,171 @@
+package com.trendchat.apigatewayservice.filter;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.trendchat.apigatewayservice.util.IdentityHeaderSigner;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * 액세스 토큰 검증과 블랙리스트 확인을 게이트웨이에서 한 번만 수행하고, 결과를 서명된 식별 헤더로 하위 서비스에 전달하는 글로벌 필터입니다.
+ * <p>
+ * 처리 순서는 다음과 같습니다.
+ * </p>
+ * <ol>
+ *     <li>클라이언트가 보낸 {@value IdentityHeaderSigner#IDENTITY_HEADER} 헤더는 항상 제거합니다.</li>
+ *     <li>{@code Authorization: Bearer} 토큰의 서명과 만료를 검증하고, 사용자 ID를 {@link #USER_ID_ATTRIBUTE}에 보관합니다.</li>
+ *     <li>사용자/토큰 블랙리스트 키를 동시에 조회합니다.</li>
+ *     <li>통과하면 userId, nickname, role, exp, 토큰 digest를 담은 식별 헤더를 추가합니다.</li>
+ * </ol>
+ * <p>
+ * 토큰이 없거나, 검증에 실패하거나, 블랙리스트에 있거나, Redis 조회가 실패하면 식별 헤더 없이 그대로 전달합니다. 이 경우 하위 서비스가 기존
+ * 방식대로 토큰을 직접 검증하므로, 오류 응답 형식과 인증 정책은 바뀌지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class JwtIdentityGlobalFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+    // 서명 검증을 통과한 토큰의 사용자 ID (exchange attribute)
+    public static final String USER_ID_ATTRIBUTE = JwtIdentityGlobalFilter.class.getName() + ".userId";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String USER_BLACKLIST_PREFIX = "blacklisted_user:";
+    private static final String ACCESS_TOKEN_BLACKLIST_PREFIX = "access_token_blacklist:";
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final IdentityHeaderSigner signer;
+    // 토큰 헤더의 alg → 검증기
+    private final Map<String, JWTVerifier> verifiers;
+
+    private final Counter issued;
+    private final Counter anonymous;
+    private final Counter invalid;
+    private final Counter blacklisted;
+    private final Counter failed;
+
+    public JwtIdentityGlobalFilter(
+            ReactiveStringRedisTemplate redisTemplate,
+            IdentityHeaderSigner signer,
+            @Value("${jwt.token.access.secret.key}") String accessSecretKey,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.signer = signer;
+        this.verifiers = Map.of(
+                "HS256", JWT.require(Algorithm.HMAC256(accessSecretKey)).build(),
+                "HS384", JWT.require(Algorithm.HMAC384(accessSecretKey)).build(),
+                "HS512", JWT.require(Algorithm.HMAC512(accessSecretKey)).build()
+        );
+        this.issued = counter(meterRegistry, "issued");
+        this.anonymous = counter(meterRegistry, "anonymous");
+        this.invalid = counter(meterRegistry, "invalid");
+        this.blacklisted = counter(meterRegistry, "blacklisted");
+        this.failed = counter(meterRegistry, "error");
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest stripped = exchange.getRequest().mutate()
+                .headers(headers -> headers.remove(IdentityHeaderSigner.IDENTITY_HEADER))
+                .build();
+        ServerWebExchange forwarded = exchange.mutate().request(stripped).build();
+
+        String token = resolveToken(stripped);
+        if (token == null) {
+            anonymous.increment();
+            return chain.filter(forwarded);
+        }
+
+        DecodedJWT decoded = verify(token);
+        if (decoded == null || decoded.getSubject() == null || decoded.getExpiresAt() == null) {
+            invalid.increment();
+            return chain.filter(forwarded);
+        }
+
+        String userId = decoded.getSubject();
+        // 이후 필터(요청 제한 등)가 토큰을 다시 검증하지 않고 사용자를 식별할 수 있도록 보관
+        forwarded.getAttributes().put(USER_ID_ATTRIBUTE, userId);
+        if (!signer.isEnabled()) {
+            return chain.filter(forwarded);
+        }
+        // 두 키를 동시에 조회 (같은 연결에서 다중화되므로 왕복 한 번 수준)
+        return Flux.merge(
+                        redisTemplate.hasKey(USER_BLACKLIST_PREFIX + userId),
+                        redisTemplate.hasKey(ACCESS_TOKEN_BLACKLIST_PREFIX + token))
+                .any(Boolean.TRUE::equals)
+                .onErrorResume(e -> {
+                    log.warn("Blacklist lookup failed, forwarding without identity: {}", e.getMessage());
+                    failed.increment();
+                    return Mono.empty();
+                })
+                .flatMap(isBlacklisted -> {
+                    if (isBlacklisted) {
+                        blacklisted.increment();
+                        return Mono.just(forwarded);
+                    }
+                    issued.increment();
+                    String identity = signer.sign(
+                            userId,
+                            decoded.getClaim("nickname").asString(),
+                            decoded.getClaim("role").asString(),
+                            token,
+                            decoded.getExpiresAt().toInstant().getEpochSecond());
+                    ServerHttpRequest request = stripped.mutate()
+                            .header(IdentityHeaderSigner.IDENTITY_HEADER, identity)
+                            .build();
+                    return Mono.just(forwarded.mutate().request(request).build());
+                })
+                .defaultIfEmpty(forwarded)
+                .flatMap(chain::filter);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private String resolveToken(ServerHttpRequest request) {
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        String token = authorization.substring(BEARER_PREFIX.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+
+    private DecodedJWT verify(String token) {
+        try {
+            DecodedJWT decoded = JWT.decode(token);
+            JWTVerifier verifier = verifiers.get(decoded.getAlgorithm());
+            return verifier == null ? null : verifier.verify(decoded);
+        } catch (JWTVerificationException e) {
+            return null;
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("gateway.auth.identity")
+                .description("게이트웨이 토큰 검증 및 식별 헤더 발급 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,226 @@
+package com.trendchat.apigatewayservice.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.trendchat.apigatewayservice.config.RateLimitProperties;
+import com.trendchat.apigatewayservice.config.RateLimitProperties.Rule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자 + 경로 규칙 단위 토큰 버킷으로 요청 수를 제한하는 글로벌 필터입니다.
+ * <p>
+ * 버킷 상태는 Redis 해시({@code rate:{rule}:{subject}})에 있고 Lua 스크립트로 충전과 차감을 원자적으로 처리합니다. 스크립트는 Redis
+ * 서버 시각을 사용하므로 게이트웨이 인스턴스 간 시계 차이의 영향을 받지 않습니다.
+ * </p>
+ * <p>
+ * 규칙의 {@code leaseSize}가 1보다 크면 한 번에 여러 토큰을 가져와 로컬 lease로 소비합니다. lease가 남아 있는 동안은 Redis를 거치지
+ * 않으며, {@code leaseTtl}이 지나면 남은 토큰은 버립니다.
+ * </p>
+ * <p>
+ * 사용자는 {@link JwtIdentityGlobalFilter}가 검증한 사용자 ID로 식별하며, 토큰이 없으면 클라이언트 IP를 사용합니다. 게이트웨이 앞에
+ * 프록시가 있으면 {@code trustedProxyHops}만큼의 {@code X-Forwarded-For} 항목만 신뢰하여 클라이언트 IP를 구하고, 0이면 접속한
+ * 주소를 그대로 사용합니다. 한도를 넘으면 {@code 429 Too Many Requests}와 {@code Retry-After}(초)를 반환합니다. Redis 오류 시에는
+ * 요청을 통과시킵니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RateLimitGlobalFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = JwtIdentityGlobalFilter.ORDER + 1;
+
+    private static final String KEY_PREFIX = "rate:";
+
+    // KEYS[1]=버킷 키, ARGV[1]=용량, ARGV[2]=ms당 충전량, ARGV[3]=요청 토큰 수 → {지급 토큰 수, 재시도까지 ms}
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local requested = tonumber(ARGV[3])
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or capacity
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+            local granted = math.min(requested, math.floor(tokens))
+            local retry = 0
+            if granted < 1 then
+                granted = 0
+                retry = math.ceil((1 - tokens) / rate)
+            else
+                tokens = tokens - granted
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate) + 1000)
+            return {granted, retry}
+            """, List.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // 버킷 키 → 로컬 lease
+    private final Cache<String, Lease> leases = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+    private final Map<String, PathPattern> patterns = new ConcurrentHashMap<>();
+    // 신뢰할 프록시 수 → X-Forwarded-For 해석기
+    private final Map<Integer, RemoteAddressResolver> remoteAddressResolvers = new ConcurrentHashMap<>();
+    private final Counter redisFailures;
+    // 규칙 ID → 거절 수 (설정 갱신으로 추가된 규칙은 처음 거절할 때 등록)
+    private final Map<String, Counter> rejected = new ConcurrentHashMap<>();
+
+    public RateLimitGlobalFilter(ReactiveStringRedisTemplate redisTemplate,
+            RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.redisFailures = Counter.builder("gateway.rate_limit.errors")
+                .description("Redis 오류로 제한 없이 통과시킨 요청 수")
+                .register(meterRegistry);
+        properties.getRules().keySet().forEach(ruleId -> rejected.put(ruleId, rejectedCounter(ruleId)));
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        Map.Entry<String, Rule> matched = match(exchange.getRequest());
+        if (matched == null) {
+            return chain.filter(exchange);
+        }
+
+        String ruleId = matched.getKey();
+        Rule rule = matched.getValue();
+        String key = KEY_PREFIX + ruleId + ":" + subject(exchange);
+
+        Lease lease = leases.getIfPresent(key);
+        if (lease != null && lease.tryAcquire(System.currentTimeMillis())) {
+            return chain.filter(exchange);
+        }
+
+        int requested = Math.max(1, rule.getLeaseSize());
+        double refillPerMillis = Math.max(rule.getRefillPerSecond(), 0.001) / 1000.0;
+        return redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(key), List.of(
+                        String.valueOf(rule.getCapacity()),
+                        String.valueOf(refillPerMillis),
+                        String.valueOf(requested)))
+                .next()
+                .map(result -> {
+                    long granted = ((Number) result.get(0)).longValue();
+                    if (granted > 1) {
+                        leases.put(key, new Lease((int) granted - 1,
+                                System.currentTimeMillis() + properties.getLeaseTtl().toMillis()));
+                    }
+                    return granted > 0 ? 0L : ((Number) result.get(1)).longValue();
+                })
+                .onErrorResume(e -> {
+                    log.warn("Rate limit check failed, allowing request: {}", e.getMessage());
+                    redisFailures.increment();
+                    return Mono.just(0L);
+                })
+                .flatMap(retryAfterMillis -> retryAfterMillis > 0
+                        ? reject(exchange, ruleId, retryAfterMillis)
+                        : chain.filter(exchange));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private Map.Entry<String, Rule> match(ServerHttpRequest request) {
+        for (Map.Entry<String, Rule> entry : properties.getRules().entrySet()) {
+            Rule rule = entry.getValue();
+            if (rule.getPath() == null || rule.getCapacity() <= 0) {
+                continue;
+            }
+            if (rule.getMethod() != null && !rule.getMethod().equalsIgnoreCase(request.getMethod().name())) {
+                continue;
+            }
+            PathPattern pattern = patterns.computeIfAbsent(rule.getPath(), PathPatternParser.defaultInstance::parse);
+            if (pattern.matches(request.getPath().pathWithinApplication())) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private String subject(ServerWebExchange exchange) {
+        String userId = exchange.getAttribute(JwtIdentityGlobalFilter.USER_ID_ATTRIBUTE);
+        if (userId != null) {
+            return "user:" + userId;
+        }
+        int trustedProxyHops = properties.getTrustedProxyHops();
+        InetSocketAddress remoteAddress = trustedProxyHops > 0
+                ? remoteAddressResolvers.computeIfAbsent(trustedProxyHops,
+                        XForwardedRemoteAddressResolver::maxTrustedIndex).resolve(exchange)
+                : exchange.getRequest().getRemoteAddress();
+        return "ip:" + (remoteAddress == null ? "unknown" : remoteAddress.getHostString());
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, String ruleId, long retryAfterMillis) {
+        rejected.computeIfAbsent(ruleId, this::rejectedCounter).increment();
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds(retryAfterMillis)));
+        return response.setComplete();
+    }
+
+    private Counter rejectedCounter(String ruleId) {
+        return Counter.builder("gateway.rate_limit.rejected")
+                .description("요청 제한으로 거절한 요청 수")
+                .tag("rule", ruleId)
+                .register(meterRegistry);
+    }
+
+    // Retry-After는 초 단위이므로 올림하고, 0초로 바로 재시도하지 않도록 최소 1초
+    static long retryAfterSeconds(long retryAfterMillis) {
+        return Math.max(1, (retryAfterMillis + 999) / 1000);
+    }
+
+    // 이 인스턴스가 Redis 버킷에서 미리 받아 둔 토큰
+    static class Lease {
+
+        private final AtomicInteger remaining;
+        private final long expiresAt;
+
+        Lease(int remaining, long expiresAt) {
+            this.remaining = new AtomicInteger(remaining);
+            this.expiresAt = expiresAt;
+        }
+
+        boolean tryAcquire(long now) {
+            return now < expiresAt && remaining.getAndDecrement() > 0;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.trendchat.apigatewayservice.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.trendchat.apigatewayservice.config.ResponseCacheProperties;
+import com.trendchat.apigatewayservice.config.ResponseCacheProperties.Rule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자와 무관한 공개 {@code GET} 응답을 게이트웨이에서 짧게 캐시하는 글로벌 필터입니다.
+ * <p>
+ * 로비/랜딩 화면의 트렌드·통계 조회처럼 모든 클라이언트가 수 초마다 같은 데이터를 요청하는 경로를 대상으로 합니다.
+ * </p>
+ * <ul>
+ *     <li>캐시 키는 경로 + 규칙별로 허용된 쿼리 파라미터(이름순 정렬)이며, 항목은 규칙별 {@code ttl} 동안 유지됩니다.</li>
+ *     <li>캐시 전체 크기는 본문 바이트 합계({@code maxSize})로 제한합니다.</li>
+ *     <li>응답에는 본문 SHA-256 기반 {@code ETag}를 붙이고, {@code If-None-Match}가 일치하면 {@code 304}로 응답합니다.</li>
+ *     <li>같은 키의 캐시 미스가 동시에 들어오면 첫 요청만 원본 서비스를 호출하고, 나머지는 그 결과를 공유합니다(single-flight).
+ *     첫 요청의 응답을 캐시할 수 없으면(200 이외, 크기 초과, {@code Set-Cookie}) 대기 요청은 각자 원본을 호출합니다.</li>
+ * </ul>
+ * <p>
+ * {@code gateway.response_cache.requests{result=hit|coalesced|miss}}로 적중률과 원본 호출 절감 비율을 확인할 수 있습니다.
+ * </p>
+ */
+@Component
+public class ResponseCacheGlobalFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = RateLimitGlobalFilter.ORDER + 1;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final ResponseCacheProperties properties;
+    private final Cache<String, CachedResponse> cache;
+    // 캐시 키 → 원본 호출 중인 요청의 결과
+    private final Map<String, Sinks.One<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, PathPattern> patterns = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter coalesced;
+    private final Counter misses;
+    private final Counter notModified;
+
+    public ResponseCacheGlobalFilter(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxSize().toBytes())
+                .weigher((String key, CachedResponse value) -> key.length() + value.body().length)
+                .expireAfter(new ExpireAtTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.response_cache");
+        this.hits = counter(meterRegistry, "hit");
+        this.coalesced = counter(meterRegistry, "coalesced");
+        this.misses = counter(meterRegistry, "miss");
+        this.notModified = Counter.builder("gateway.response_cache.not_modified")
+                .description("ETag 일치로 304를 반환한 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!properties.isEnabled() || request.getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+        Rule rule = match(request);
+        if (rule == null) {
+            return chain.filter(exchange);
+        }
+
+        String key = key(request, rule);
+        CachedResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return write(exchange, cached);
+        }
+
+        Sinks.One<CachedResponse> sink = Sinks.one();
+        Sinks.One<CachedResponse> leader = inFlight.putIfAbsent(key, sink);
+        if (leader != null) {
+            coalesced.increment();
+            return leader.asMono()
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(response -> response.isPresent()
+                            ? write(exchange, response.get())
+                            : chain.filter(exchange));
+        }
+
+        misses.increment();
+        ServerHttpResponse decorated = new CachingResponse(exchange, key, rule, sink);
+        return chain.filter(exchange.mutate().response(decorated).build())
+                .doFinally(signal -> {
+                    inFlight.remove(key, sink);
+                    // 캐시하지 못했거나 실패/취소된 경우 대기 요청이 각자 원본을 호출하도록 종료
+                    sink.tryEmitEmpty();
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private Rule match(ServerHttpRequest request) {
+        for (Rule rule : properties.getRules().values()) {
+            if (rule.getPath() == null || rule.getTtl() == null || rule.getTtl().isZero()) {
+                continue;
+            }
+            PathPattern pattern = patterns.computeIfAbsent(rule.getPath(), PathPatternParser.defaultInstance::parse);
+            if (pattern.matches(request.getPath().pathWithinApplication())) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    // 허용된 파라미터만 이름순으로 모아 키를 만듦 (같은 이름의 값은 요청 순서 유지)
+    static String key(ServerHttpRequest request, Rule rule) {
+        MultiValueMap<String, String> params = request.getQueryParams();
+        StringJoiner query = new StringJoiner("&", "?", "").setEmptyValue("");
+        rule.getQueryParams().stream()
+                .sorted()
+                .distinct()
+                .forEach(name -> params.getOrDefault(name, List.of()).forEach(value -> query.add(
+                        name + "=" + URLEncoder.encode(value == null ? "" : value, StandardCharsets.UTF_8))));
+        return request.getPath().pathWithinApplication().value() + query;
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().setETag(cached.etag());
+        if (matchesETag(exchange.getRequest(), cached.etag())) {
+            notModified.increment();
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+        response.setStatusCode(cached.status());
+        if (cached.contentType() != null) {
+            response.getHeaders().setContentType(cached.contentType());
+        }
+        response.getHeaders().setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private boolean matchesETag(ServerHttpRequest request, String etag) {
+        return request.getHeaders().getIfNoneMatch().stream()
+                .anyMatch(value -> value.equals(etag) || value.equals("*"));
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + ENCODER.encodeToString(Arrays.copyOf(hash, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("gateway.response_cache.requests")
+                .description("응답 캐시 대상 요청 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record CachedResponse(HttpStatusCode status, MediaType contentType, byte[] body, String etag,
+                                  long ttlNanos) {
+    }
+
+    // 원본 응답 본문을 모아 캐시에 저장하고 대기 요청에 전달
+    private class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+        private final String key;
+        private final Rule rule;
+        private final Sinks.One<CachedResponse> sink;
+
+        CachingResponse(ServerWebExchange exchange, String key, Rule rule, Sinks.One<CachedResponse> sink) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.key = key;
+            this.rule = rule;
+            this.sink = sink;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return DataBufferUtils.join(body).flatMap(buffer -> {
+                byte[] bytes = new byte[buffer.readableByteCount()];
+                buffer.read(bytes);
+                DataBufferUtils.release(buffer);
+
+                HttpHeaders headers = getHeaders();
+                if (!HttpStatus.OK.equals(getStatusCode()) || bytes.length > properties.getMaxBodySize().toBytes()
+                        || headers.containsKey(HttpHeaders.SET_COOKIE)) {
+                    return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                }
+
+                CachedResponse cached = new CachedResponse(HttpStatus.OK, headers.getContentType(), bytes,
+                        etag(bytes), rule.getTtl().toNanos());
+                cache.put(key, cached);
+                sink.tryEmitValue(cached);
+
+                headers.setETag(cached.etag());
+                if (matchesETag(exchange.getRequest(), cached.etag())) {
+                    notModified.increment();
+                    setStatusCode(HttpStatus.NOT_MODIFIED);
+                    headers.remove(HttpHeaders.CONTENT_LENGTH);
+                    return setComplete();
+                }
+                return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+            });
+        }
+    }
+
+    // 항목별 ttl 적용
+    private static class ExpireAtTtl implements Expiry<String, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse value, long currentTime,
+                long currentDuration) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.trendchat.apigatewayservice.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인스턴스 하나의 지연 시간 peak-EWMA, 진행 중 요청 수, 제외 상태입니다.
+ * <p>
+ * 관측 지연 시간이 현재 비용보다 크면 즉시 그 값으로 올리고(peak), 작으면 경과 시간에 따라 지수 가중 평균으로 천천히 내립니다. 조회 시에도
+ * 마지막 관측 이후 경과 시간만큼 감쇠시키므로, 한동안 선택되지 않은 인스턴스는 점차 다시 선택될 기회를 얻습니다.
+ * </p>
+ * <p>
+ * 이상치 판단에는 감쇠 전 값({@link #latency()})과 연속으로 느렸던 응답 수를 사용합니다. 감쇠된 비용은 최근 관측이 없는 인스턴스일수록 0에
+ * 가까워지므로 인스턴스 간 비교 기준으로 쓸 수 없습니다.
+ * </p>
+ */
+public class InstanceStats {
+
+    private final String instanceId;
+    private final String uri;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicInteger consecutiveSlow = new AtomicInteger();
+
+    // this로 보호
+    private double costNanos;
+    private long lastObservedNanos;
+    private boolean observed;
+
+    private volatile long ejectedUntilNanos;
+
+    InstanceStats(String instanceId, String uri) {
+        this.instanceId = instanceId;
+        this.uri = uri;
+    }
+
+    void requestStarted() {
+        inFlight.incrementAndGet();
+    }
+
+    void requestFinished() {
+        inFlight.decrementAndGet();
+    }
+
+    synchronized void observe(long rttNanos, long now, long decayNanos) {
+        if (!observed || rttNanos > costNanos) {
+            costNanos = rttNanos;
+        } else {
+            double weight = Math.exp(-(double) (now - lastObservedNanos) / decayNanos);
+            costNanos = costNanos * weight + rttNanos * (1 - weight);
+        }
+        lastObservedNanos = now;
+        observed = true;
+    }
+
+    /**
+     * 현재 시각 기준으로 감쇠시킨 지연 시간 비용을 반환합니다. 관측값이 없으면 {@code defaultNanos}를 반환합니다.
+     */
+    synchronized double cost(long now, long decayNanos, long defaultNanos) {
+        if (!observed) {
+            return defaultNanos;
+        }
+        return costNanos * Math.exp(-(double) (now - lastObservedNanos) / decayNanos);
+    }
+
+    synchronized boolean isObserved() {
+        return observed;
+    }
+
+    /**
+     * 감쇠 전 지연 시간 EWMA를 반환합니다. 관측값이 없으면 0입니다.
+     */
+    synchronized double latency() {
+        return observed ? costNanos : 0;
+    }
+
+    /**
+     * {@code since} 이후에 관측된 적이 있는지 여부입니다.
+     */
+    synchronized boolean isObservedSince(long since) {
+        return observed && lastObservedNanos - since >= 0;
+    }
+
+    /**
+     * 응답이 다른 인스턴스보다 느렸는지 기록하고, 연속으로 느렸던 응답 수를 반환합니다.
+     */
+    int recordLatencySample(boolean slow) {
+        if (!slow) {
+            consecutiveSlow.set(0);
+            return 0;
+        }
+        return consecutiveSlow.incrementAndGet();
+    }
+
+    /**
+     * 선택에 사용하는 점수입니다. 낮을수록 우선합니다.
+     */
+    double score(long now, long decayNanos, long defaultNanos) {
+        return cost(now, decayNanos, defaultNanos) * (inFlight.get() + 1);
+    }
+
+    /**
+     * 실패를 기록하고 연속 실패 횟수를 반환합니다.
+     */
+    int recordFailure() {
+        return consecutiveFailures.incrementAndGet();
+    }
+
+    void recordSuccess() {
+        consecutiveFailures.set(0);
+    }
+
+    void eject(long untilNanos) {
+        ejectedUntilNanos = untilNanos;
+        consecutiveFailures.set(0);
+        consecutiveSlow.set(0);
+    }
+
+    boolean isEjected(long now) {
+        return now < ejectedUntilNanos;
+    }
+
+    long ejectedUntilNanos() {
+        return ejectedUntilNanos;
+    }
+
+    String instanceId() {
+        return instanceId;
+    }
+
+    String uri() {
+        return uri;
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+}
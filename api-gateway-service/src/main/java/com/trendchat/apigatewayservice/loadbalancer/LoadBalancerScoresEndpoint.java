@@ -0,0 +1,27 @@
+package com.trendchat.apigatewayservice.loadbalancer;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서비스별 인스턴스의 지연 시간, 진행 중 요청 수, 점수, 제외 상태를 {@code /actuator/loadbalancer}로 노출합니다.
+ */
+@Component
+@Endpoint(id = "loadbalancer")
+public class LoadBalancerScoresEndpoint {
+
+    private final LoadBalancerStatsRegistry statsRegistry;
+
+    public LoadBalancerScoresEndpoint(LoadBalancerStatsRegistry statsRegistry) {
+        this.statsRegistry = statsRegistry;
+    }
+
+    @ReadOperation
+    public Map<String, List<Map<String, Object>>> scores() {
+        return statsRegistry.snapshot();
+    }
+}
@@ -0,0 +1,63 @@
+package com.trendchat.apigatewayservice.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR;
+
+/**
+ * 로드밸런싱된 요청의 시작과 종료를 {@link LoadBalancerStatsRegistry}에 기록하는 글로벌 필터입니다.
+ * <p>
+ * {@link ReactiveLoadBalancerClientFilter} 바로 다음에 위치하여, 선택된 인스턴스의 진행 중 요청 수를 올리고 하위 체인(라우팅)이 끝나면
+ * 내립니다. 라우팅 필터는 원본 응답 헤더를 받으면 완료되므로, 기록되는 시간은 첫 바이트까지의 시간이며 SSE 같은 장기 스트림도 스트림 길이가
+ * 아닌 응답 시작 시간으로 반영됩니다. 예외와 5xx 응답은 실패로 기록하고, 클라이언트 취소는 진행 중 요청 수만 정리합니다.
+ * </p>
+ */
+@Component
+public class LoadBalancerStatsGlobalFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+
+    private final LoadBalancerStatsRegistry statsRegistry;
+
+    public LoadBalancerStatsGlobalFilter(LoadBalancerStatsRegistry statsRegistry) {
+        this.statsRegistry = statsRegistry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Response<ServiceInstance> lbResponse = exchange.getAttribute(GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return chain.filter(exchange);
+        }
+
+        ServiceInstance instance = lbResponse.getServer();
+        InstanceStats instanceStats = statsRegistry.stats(instance.getServiceId(), instance);
+        instanceStats.requestStarted();
+        long startNanos = System.nanoTime();
+        return chain.filter(exchange).doFinally(signal -> {
+            if (signal == SignalType.CANCEL) {
+                instanceStats.requestFinished();
+                return;
+            }
+            HttpStatusCode status = exchange.getResponse().getStatusCode();
+            boolean failed = signal == SignalType.ON_ERROR || (status != null && status.is5xxServerError());
+            statsRegistry.recordCompletion(instance.getServiceId(), instanceStats,
+                    System.nanoTime() - startNanos, failed);
+        });
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
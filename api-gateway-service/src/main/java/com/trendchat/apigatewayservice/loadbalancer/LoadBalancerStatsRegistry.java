@@ -0,0 +1,172 @@
+package com.trendchat.apigatewayservice.loadbalancer;
+
+import com.trendchat.apigatewayservice.config.LoadBalancerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 서비스별 인스턴스 통계({@link InstanceStats})를 보관하고, 이상 인스턴스 제외를 판단합니다.
+ * <p>
+ * {@link PeakEwmaLoadBalancer}가 선택에 사용하고, {@link LoadBalancerStatsGlobalFilter}가 요청 시작/종료를 기록하며,
+ * {@link LoadBalancerScoresEndpoint}가 현재 점수를 노출합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class LoadBalancerStatsRegistry {
+
+    // 제외 판단에 필요한 최소 인스턴스 수 (중앙값 비교)
+    private static final int MIN_INSTANCES_FOR_OUTLIER = 3;
+
+    private final LoadBalancerProperties properties;
+    private final MeterRegistry meterRegistry;
+    // serviceId(소문자) → instanceId → 통계
+    private final Map<String, Map<String, InstanceStats>> services = new ConcurrentHashMap<>();
+
+    public LoadBalancerStatsRegistry(LoadBalancerProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 선택 가능한 인스턴스를 반환합니다. 제외 중인 인스턴스를 빼되, 남는 인스턴스가 {@code maxEjectionPercent} 기준보다 적어지면 점수가
+     * 낮은 제외 인스턴스부터 다시 포함합니다. 목록에서 사라진 인스턴스의 통계는 정리합니다.
+     */
+    List<ServiceInstance> available(String serviceId, List<ServiceInstance> instances) {
+        Map<String, InstanceStats> stats = service(serviceId);
+        if (stats.size() > instances.size()) {
+            Set<String> current = instances.stream().map(this::instanceId).collect(Collectors.toSet());
+            stats.keySet().retainAll(current);
+        }
+
+        long now = System.nanoTime();
+        List<ServiceInstance> healthy = new ArrayList<>(instances.size());
+        List<ServiceInstance> ejected = new ArrayList<>();
+        for (ServiceInstance instance : instances) {
+            (stats(serviceId, instance).isEjected(now) ? ejected : healthy).add(instance);
+        }
+
+        int minAvailable = Math.max(1,
+                (int) Math.ceil(instances.size() * (100 - properties.getMaxEjectionPercent()) / 100.0));
+        if (healthy.size() < minAvailable && !ejected.isEmpty()) {
+            ejected.sort(Comparator.comparingDouble(instance -> score(serviceId, instance, now)));
+            healthy.addAll(ejected.subList(0, Math.min(ejected.size(), minAvailable - healthy.size())));
+        }
+        return healthy;
+    }
+
+    InstanceStats stats(String serviceId, ServiceInstance instance) {
+        return service(serviceId)
+                .computeIfAbsent(instanceId(instance), id -> new InstanceStats(id, String.valueOf(instance.getUri())));
+    }
+
+    double score(String serviceId, ServiceInstance instance, long now) {
+        return score(stats(serviceId, instance), now);
+    }
+
+    private double score(InstanceStats instanceStats, long now) {
+        return instanceStats.score(now, properties.getDecay().toNanos(), properties.getDefaultLatency().toNanos());
+    }
+
+    /**
+     * 요청 결과를 반영하고, 연속 실패 또는 지연 시간 이상치이면 인스턴스를 일정 시간 제외합니다.
+     */
+    void recordCompletion(String serviceId, InstanceStats instanceStats, long rttNanos, boolean failed) {
+        long now = System.nanoTime();
+        instanceStats.requestFinished();
+        if (failed) {
+            if (instanceStats.recordFailure() >= properties.getFailureThreshold()) {
+                eject(serviceId, instanceStats, now, "failures");
+            }
+            return;
+        }
+        instanceStats.recordSuccess();
+        instanceStats.observe(rttNanos, now, properties.getDecay().toNanos());
+        if (isLatencyOutlier(serviceId, instanceStats, rttNanos, now)) {
+            eject(serviceId, instanceStats, now, "latency");
+        }
+    }
+
+    /**
+     * 서비스별 인스턴스 점수 스냅샷을 반환합니다.
+     */
+    Map<String, List<Map<String, Object>>> snapshot() {
+        long now = System.nanoTime();
+        long decayNanos = properties.getDecay().toNanos();
+        long defaultNanos = properties.getDefaultLatency().toNanos();
+        Map<String, List<Map<String, Object>>> result = new LinkedHashMap<>();
+        services.forEach((serviceId, stats) -> result.put(serviceId, stats.values().stream()
+                .sorted(Comparator.comparingDouble(instanceStats -> score(instanceStats, now)))
+                .map(instanceStats -> {
+                    Map<String, Object> entry = new LinkedHashMap<>();
+                    entry.put("instanceId", instanceStats.instanceId());
+                    entry.put("uri", instanceStats.uri());
+                    entry.put("latencyMillis", instanceStats.cost(now, decayNanos, defaultNanos) / 1_000_000);
+                    entry.put("inFlight", instanceStats.inFlight());
+                    entry.put("score", score(instanceStats, now) / 1_000_000);
+                    entry.put("ejected", instanceStats.isEjected(now));
+                    entry.put("ejectedForMillis", instanceStats.isEjected(now)
+                            ? (instanceStats.ejectedUntilNanos() - now) / 1_000_000 : 0);
+                    return entry;
+                })
+                .toList()));
+        return result;
+    }
+
+    // 응답 한 건의 지연 시간이 최근 decay 구간 안에 관측된 다른 인스턴스의 (감쇠 전) 지연 시간 중앙값보다 outlierFactor배 넘게 느린
+    // 경우가 연속 outlierConsecutiveSamples번이면 이상치로 판단 (peak-EWMA는 느린 응답 한 건에 바로 올라가므로 EWMA 대신 응답별로 비교)
+    private boolean isLatencyOutlier(String serviceId, InstanceStats instanceStats, long rttNanos, long now) {
+        Map<String, InstanceStats> stats = service(serviceId);
+        boolean slow = false;
+        if (stats.size() >= MIN_INSTANCES_FOR_OUTLIER) {
+            long freshSince = now - properties.getDecay().toNanos();
+            double[] peers = stats.values().stream()
+                    .filter(peer -> peer != instanceStats && !peer.isEjected(now) && peer.isObservedSince(freshSince))
+                    .mapToDouble(InstanceStats::latency)
+                    .sorted()
+                    .toArray();
+            slow = peers.length >= MIN_INSTANCES_FOR_OUTLIER - 1
+                    && rttNanos > peers[peers.length / 2] * properties.getOutlierFactor();
+        }
+        return instanceStats.recordLatencySample(slow) >= properties.getOutlierConsecutiveSamples();
+    }
+
+    private void eject(String serviceId, InstanceStats instanceStats, long now, String reason) {
+        if (instanceStats.isEjected(now)) {
+            return;
+        }
+        instanceStats.eject(now + properties.getEjectionDuration().toNanos());
+        log.warn("Ejecting {} instance {} for {} ({})", serviceId, instanceStats.instanceId(),
+                properties.getEjectionDuration(), reason);
+        Counter.builder("gateway.loadbalancer.ejections")
+                .description("로드밸런서가 일시 제외한 인스턴스 수")
+                .tag("service", serviceId.toLowerCase(Locale.ROOT))
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // 로드밸런서 이름(lb://chat-service)과 Eureka 앱 이름(CHAT-SERVICE)의 대소문자 차이를 맞춤
+    private Map<String, InstanceStats> service(String serviceId) {
+        return services.computeIfAbsent(serviceId.toLowerCase(Locale.ROOT), key -> new ConcurrentHashMap<>());
+    }
+
+    private String instanceId(ServiceInstance instance) {
+        return instance.getInstanceId() != null
+                ? instance.getInstanceId()
+                : instance.getHost() + ":" + instance.getPort();
+    }
+}
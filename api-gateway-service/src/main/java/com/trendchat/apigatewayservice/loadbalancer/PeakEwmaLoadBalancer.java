@@ -0,0 +1,71 @@
+package com.trendchat.apigatewayservice.loadbalancer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 지연 시간 peak-EWMA와 진행 중 요청 수로 인스턴스를 고르는 로드밸런서입니다.
+ * <p>
+ * 제외되지 않은 인스턴스 중 무작위로 두 개를 뽑아 점수({@code 지연 시간 비용 × (진행 중 요청 수 + 1)})가 낮은 쪽을 선택합니다
+ * (power of two choices). 전체를 정렬하지 않으면서도 GC 정지나 과부하로 느려진 인스턴스에 트래픽이 몰리지 않으며, 여러 게이트웨이
+ * 인스턴스가 같은 "가장 빠른" 인스턴스로 동시에 몰리는 현상도 피합니다.
+ * </p>
+ */
+public class PeakEwmaLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final String serviceId;
+    private final LoadBalancerStatsRegistry statsRegistry;
+
+    public PeakEwmaLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+            String serviceId, LoadBalancerStatsRegistry statsRegistry) {
+        this.supplierProvider = supplierProvider;
+        this.serviceId = serviceId;
+        this.statsRegistry = statsRegistry;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(this::select);
+    }
+
+    private Response<ServiceInstance> select(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            return new EmptyResponse();
+        }
+        if (instances.size() == 1) {
+            return new DefaultResponse(instances.get(0));
+        }
+
+        List<ServiceInstance> candidates = statsRegistry.available(serviceId, instances);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (candidates.size() == 1) {
+            return new DefaultResponse(candidates.get(0));
+        }
+        int firstIndex = random.nextInt(candidates.size());
+        int secondIndex = random.nextInt(candidates.size() - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+        ServiceInstance first = candidates.get(firstIndex);
+        ServiceInstance second = candidates.get(secondIndex);
+
+        long now = System.nanoTime();
+        return new DefaultResponse(statsRegistry.score(serviceId, second, now) < statsRegistry.score(serviceId, first, now)
+                ? second
+                : first);
+    }
+}
@@ -0,0 +1,30 @@
+package com.trendchat.apigatewayservice.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * 서비스별 로드밸런서 자식 컨텍스트에 {@link PeakEwmaLoadBalancer}를 등록합니다.
+ * <p>
+ * {@code @LoadBalancerClients(defaultConfiguration = ...)}로만 사용하므로 {@code @Configuration}을 붙이지 않습니다(컴포넌트
+ * 스캔으로 부모 컨텍스트에 등록되면 모든 서비스가 같은 로드밸런서를 공유하게 됩니다).
+ * </p>
+ */
+public class PeakEwmaLoadBalancerConfiguration {
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> peakEwmaLoadBalancer(
+            Environment environment,
+            LoadBalancerClientFactory loadBalancerClientFactory,
+            LoadBalancerStatsRegistry statsRegistry
+    ) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new PeakEwmaLoadBalancer(
+                loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+                serviceId, statsRegistry);
+    }
+}
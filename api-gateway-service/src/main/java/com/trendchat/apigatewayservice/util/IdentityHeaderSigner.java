@@ -0,0 +1,100 @@
+package com.trendchat.apigatewayservice.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * 게이트웨이에서 검증을 마친 사용자 정보를 하위 서비스에 전달하는 서명된 식별 헤더를 만듭니다.
+ * <p>
+ * 헤더 값 형식은 {@code base64url(userId).base64url(nickname).role.exp.base64url(SHA-256(token)).base64url(HMAC-SHA256)}
+ * 이며, 서명 대상은 마지막 {@code .} 앞의 문자열 전체입니다. 하위 서비스는 같은 {@code auth.identity.secret-key}로 서명을 확인하므로,
+ * JWT 디코딩 없이 HMAC 한 번으로 사용자를 식별할 수 있습니다.
+ * </p>
+ * <ul>
+ *     <li>헤더에는 원본 액세스 토큰의 SHA-256 digest가 들어가며, 하위 서비스는 함께 전달된 {@code Authorization} 토큰과 digest가
+ *     일치할 때만 헤더를 신뢰합니다. 따라서 헤더를 다른 토큰과 함께 재사용할 수 없습니다.</li>
+ *     <li>{@code exp}는 토큰 만료 시각과 {@code 현재 + auth.identity.ttl}(기본 60초) 중 이른 시각(epoch 초)이므로, 유출된 헤더의
+ *     유효 시간이 짧습니다.</li>
+ * </ul>
+ * <p>
+ * {@code auth.identity.secret-key}가 설정되지 않으면 헤더를 만들지 않습니다.
+ * </p>
+ */
+@Component
+public class IdentityHeaderSigner {
+
+    public static final String IDENTITY_HEADER = "X-Auth-Identity";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final SecretKeySpec key;
+    private final long ttlSeconds;
+    // Mac은 스레드 안전하지 않으므로 스레드별로 복제해서 사용
+    private final ThreadLocal<Mac> macs;
+
+    public IdentityHeaderSigner(
+            @Value("${auth.identity.secret-key:}") String secretKey,
+            @Value("${auth.identity.ttl:60s}") Duration ttl
+    ) {
+        this.key = StringUtils.hasText(secretKey)
+                ? new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM)
+                : null;
+        this.ttlSeconds = ttl.toSeconds();
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public boolean isEnabled() {
+        return key != null;
+    }
+
+    /**
+     * 식별 헤더 값을 만듭니다.
+     *
+     * @param userId    사용자 ID (토큰 subject)
+     * @param nickname  닉네임
+     * @param role           권한 (예: {@code ROLE_FREE})
+     * @param accessToken    헤더를 함께 전달할 액세스 토큰
+     * @param tokenExpiresAt 토큰 만료 시각 (epoch 초)
+     * @return 서명된 헤더 값
+     */
+    public String sign(String userId, String nickname, String role, String accessToken, long tokenExpiresAt) {
+        long expiresAt = Math.min(tokenExpiresAt, System.currentTimeMillis() / 1000 + ttlSeconds);
+        String payload = encode(userId) + "." + encode(nickname) + "." + role + "." + expiresAt + "."
+                + ENCODER.encodeToString(sha256(accessToken));
+        byte[] signature = macs.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        return payload + "." + ENCODER.encodeToString(signature);
+    }
+
+    private String encode(String value) {
+        return ENCODER.encodeToString((value == null ? "" : value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
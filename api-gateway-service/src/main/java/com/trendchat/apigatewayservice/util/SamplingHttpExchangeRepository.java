@@ -0,0 +1,102 @@
+package com.trendchat.apigatewayservice.util;
+
+import com.trendchat.apigatewayservice.config.HttpExchangeProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.actuate.web.exchanges.HttpExchange;
+import org.springframework.boot.actuate.web.exchanges.HttpExchangeRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 요청을 샘플링하여 고정 크기 링 버퍼에 기록하는 {@link HttpExchangeRepository}입니다.
+ * <p>
+ * {@code InMemoryHttpExchangeRepository}는 모든 요청을 동기화된 리스트에 기록하므로 부하 시 요청마다 락 경합이 생깁니다. 이 구현은
+ * 슬롯 인덱스를 {@link AtomicLong}으로 할당하고 {@link AtomicReferenceArray}에 덮어쓰므로 락이 없으며, 샘플링에서 제외된 요청은
+ * 난수 한 번 외에 비용이 없습니다.
+ * </p>
+ * <p>
+ * 처리 시간이 {@code slowThreshold} 이상인 요청은 항상 별도 링 버퍼에 기록하여, 빠른 요청에 밀려 사라지지 않도록 합니다.
+ * {@link #findAll()}은 두 버퍼를 합쳐 최신순으로 반환합니다.
+ * </p>
+ */
+public class SamplingHttpExchangeRepository implements HttpExchangeRepository {
+
+    private final RingBuffer sampled;
+    private final RingBuffer slow;
+    private final double sampleRate;
+    private final Duration slowThreshold;
+
+    private final Counter sampledCounter;
+    private final Counter slowCounter;
+
+    public SamplingHttpExchangeRepository(HttpExchangeProperties properties, MeterRegistry meterRegistry) {
+        this.sampled = new RingBuffer(properties.getCapacity());
+        this.slow = new RingBuffer(properties.getSlowCapacity());
+        this.sampleRate = properties.getSampleRate();
+        this.slowThreshold = properties.getSlowThreshold();
+        this.sampledCounter = counter(meterRegistry, "sampled");
+        this.slowCounter = counter(meterRegistry, "slow");
+    }
+
+    @Override
+    public List<HttpExchange> findAll() {
+        List<HttpExchange> exchanges = new ArrayList<>();
+        sampled.copyTo(exchanges);
+        slow.copyTo(exchanges);
+        exchanges.sort(Comparator.comparing(HttpExchange::getTimestamp).reversed());
+        return exchanges;
+    }
+
+    @Override
+    public void add(HttpExchange exchange) {
+        Duration timeTaken = exchange.getTimeTaken();
+        if (timeTaken != null && timeTaken.compareTo(slowThreshold) >= 0) {
+            slow.add(exchange);
+            slowCounter.increment();
+            return;
+        }
+        if (ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            sampled.add(exchange);
+            sampledCounter.increment();
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("gateway.exchanges.recorded")
+                .description("httpexchanges에 기록된 요청 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    // 가장 오래된 항목을 덮어쓰는 락 없는 고정 크기 버퍼
+    private static class RingBuffer {
+
+        private final AtomicReferenceArray<HttpExchange> slots;
+        private final AtomicLong cursor = new AtomicLong();
+
+        RingBuffer(int capacity) {
+            this.slots = new AtomicReferenceArray<>(Math.max(1, capacity));
+        }
+
+        void add(HttpExchange exchange) {
+            long index = cursor.getAndIncrement();
+            slots.set((int) (index % slots.length()), exchange);
+        }
+
+        void copyTo(List<HttpExchange> target) {
+            for (int i = 0; i < slots.length(); i++) {
+                HttpExchange exchange = slots.get(i);
+                if (exchange != null) {
+                    target.add(exchange);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.trendchat.apigatewayservice.filter;
+
+import com.trendchat.apigatewayservice.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class RateLimitGlobalFilterTest {
+
+    private final ReactiveStringRedisTemplate redisTemplate = mock(ReactiveStringRedisTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger passed = new AtomicInteger();
+    private final GatewayFilterChain chain = exchange -> {
+        passed.incrementAndGet();
+        return Mono.empty();
+    };
+
+    private final RateLimitProperties properties = new RateLimitProperties();
+
+    private RateLimitGlobalFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        // 기본 규칙 chat-send: 용량 20, 초당 5개, lease 4개
+        filter = new RateLimitGlobalFilter(redisTemplate, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 429와 초 단위로 올림한 Retry-After를 반환한다")
+    void rejectsWithRetryAfter() {
+        givenScriptReturns(Flux.just(List.of(0L, 1_500L)));
+        MockServerWebExchange exchange = send();
+
+        filter.filter(exchange, chain).block();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(exchange.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(passed).hasValue(0);
+        assertThat(meterRegistry.counter("gateway.rate_limit.rejected", "rule", "chat-send").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("규칙별 거절 카운터는 생성 시점에 0으로 등록된다")
+    void registersRejectedCountersPerRule() {
+        assertThat(meterRegistry.find("gateway.rate_limit.rejected").counters())
+                .extracting(counter -> counter.getId().getTag("rule"))
+                .containsExactlyInAnyOrder("chat-send", "chat-stream");
+        assertThat(meterRegistry.counter("gateway.rate_limit.rejected", "rule", "chat-send").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 토큰을 받으면 남은 토큰은 Redis 없이 소비한다")
+    void consumesLeaseWithoutRedis() {
+        givenScriptReturns(Flux.just(List.of(4L, 0L)));
+
+        for (int i = 0; i < 5; i++) {
+            filter.filter(send(), chain).block();
+        }
+
+        // 1번째 요청이 4개를 받아 3개는 lease로 소비, 5번째 요청에서 다시 Redis 조회
+        assertThat(passed).hasValue(5);
+        verify(redisTemplate, times(2)).execute(any(), anyList(), anyList());
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시 요청을 통과시킨다")
+    void allowsWhenRedisFails() {
+        givenScriptReturns(Flux.error(new RedisConnectionFailureException("down")));
+
+        filter.filter(send(), chain).block();
+
+        assertThat(passed).hasValue(1);
+        assertThat(meterRegistry.counter("gateway.rate_limit.errors").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("규칙에 맞지 않는 요청은 Redis를 거치지 않는다")
+    void skipsUnmatchedRequests() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/chat/send"));
+
+        filter.filter(exchange, chain).block();
+
+        assertThat(passed).hasValue(1);
+        verify(redisTemplate, never()).execute(any(), anyList(), anyList());
+    }
+
+    @Test
+    @DisplayName("신뢰할 프록시가 없으면 X-Forwarded-For를 무시하고 접속 주소로 구분한다")
+    void ignoresForwardedForWithoutTrustedProxy() {
+        givenScriptReturns(Flux.just(List.of(1L, 0L)));
+
+        filter.filter(send("203.0.113.7"), chain).block();
+
+        verify(redisTemplate).execute(any(), eq(List.of("rate:chat-send:ip:10.0.0.1")), anyList());
+    }
+
+    @Test
+    @DisplayName("신뢰할 프록시 수만큼 X-Forwarded-For를 거슬러 올라가 클라이언트 IP로 구분한다")
+    void resolvesClientIpBehindTrustedProxy() {
+        properties.setTrustedProxyHops(1);
+        givenScriptReturns(Flux.just(List.of(1L, 0L)));
+
+        // 클라이언트가 위조한 앞쪽 항목은 무시하고, 프록시가 붙인 마지막 항목을 사용
+        filter.filter(send("198.51.100.1, 203.0.113.7"), chain).block();
+
+        verify(redisTemplate).execute(any(), eq(List.of("rate:chat-send:ip:203.0.113.7")), anyList());
+    }
+
+    @Test
+    @DisplayName("lease는 만료 전까지 남은 개수만큼만 지급한다")
+    void leaseGrantsUntilExhaustedOrExpired() {
+        RateLimitGlobalFilter.Lease lease = new RateLimitGlobalFilter.Lease(2, 1_000);
+
+        assertThat(lease.tryAcquire(0)).isTrue();
+        assertThat(lease.tryAcquire(999)).isTrue();
+        assertThat(lease.tryAcquire(999)).isFalse();
+
+        RateLimitGlobalFilter.Lease expired = new RateLimitGlobalFilter.Lease(2, 1_000);
+        assertThat(expired.tryAcquire(1_000)).isFalse();
+    }
+
+    private void givenScriptReturns(Flux<?> result) {
+        doReturn(result).when(redisTemplate).execute(any(), anyList(), anyList());
+    }
+
+    private MockServerWebExchange send() {
+        return MockServerWebExchange.from(request());
+    }
+
+    private MockServerWebExchange send(String forwardedFor) {
+        return MockServerWebExchange.from(request().header("X-Forwarded-For", forwardedFor));
+    }
+
+    private static MockServerHttpRequest.BaseBuilder<?> request() {
+        return MockServerHttpRequest.post("/api/v1/chat/send")
+                .remoteAddress(new InetSocketAddress("10.0.0.1", 40000));
+    }
+}
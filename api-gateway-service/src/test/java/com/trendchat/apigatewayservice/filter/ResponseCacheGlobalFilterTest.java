@@ -0,0 +1,184 @@
+package com.trendchat.apigatewayservice.filter;
+
+import com.trendchat.apigatewayservice.config.ResponseCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheGlobalFilterTest {
+
+    private static final String PATH = "/api/v1/trend-keywords/top10";
+    private static final String BODY = "[{\"keyword\":\"트렌드\"}]";
+
+    private final ResponseCacheProperties properties = new ResponseCacheProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResponseCacheGlobalFilter filter = new ResponseCacheGlobalFilter(properties, meterRegistry);
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    // 원본 응답을 내보낼 시점 (완료 전까지 원본 호출이 진행 중인 상태)
+    private final Sinks.Empty<Void> release = Sinks.empty();
+
+    @Test
+    @DisplayName("동시 캐시 미스는 원본을 한 번만 호출하고 결과를 공유한다")
+    void coalescesConcurrentMisses() {
+        GatewayFilterChain chain = upstream(HttpStatus.OK, null);
+        MockServerWebExchange leader = get(PATH);
+        MockServerWebExchange follower1 = get(PATH);
+        MockServerWebExchange follower2 = get(PATH);
+
+        List<CompletableFuture<Void>> pending = List.of(
+                filter.filter(leader, chain).toFuture(),
+                filter.filter(follower1, chain).toFuture(),
+                filter.filter(follower2, chain).toFuture());
+        assertThat(pending).noneMatch(CompletableFuture::isDone);
+
+        release.tryEmitEmpty();
+        pending.forEach(CompletableFuture::join);
+
+        assertThat(upstreamCalls).hasValue(1);
+        for (MockServerWebExchange exchange : List.of(leader, follower1, follower2)) {
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+            assertThat(exchange.getResponse().getHeaders().getETag()).isNotBlank();
+        }
+        assertThat(requests("miss")).isEqualTo(1);
+        assertThat(requests("coalesced")).isEqualTo(2);
+
+        // 이후 요청은 캐시 적중
+        MockServerWebExchange next = get(PATH);
+        filter.filter(next, chain).block();
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(next.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+        assertThat(requests("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("첫 요청의 응답을 캐시할 수 없으면 대기 요청은 각자 원본을 호출한다")
+    void followersCallUpstreamWhenLeaderNotCacheable() {
+        GatewayFilterChain chain = upstream(HttpStatus.SERVICE_UNAVAILABLE, null);
+        MockServerWebExchange leader = get(PATH);
+        MockServerWebExchange follower = get(PATH);
+
+        CompletableFuture<Void> leaderDone = filter.filter(leader, chain).toFuture();
+        CompletableFuture<Void> followerDone = filter.filter(follower, chain).toFuture();
+        release.tryEmitEmpty();
+        leaderDone.join();
+        followerDone.join();
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(follower.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        // 캐시되지 않았으므로 다음 요청도 원본 호출
+        filter.filter(get(PATH), chain).block();
+        assertThat(upstreamCalls).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Set-Cookie가 있는 응답은 공유하지 않는다")
+    void doesNotShareResponsesWithCookies() {
+        GatewayFilterChain chain = upstream(HttpStatus.OK, "session=abc");
+        MockServerWebExchange leader = get(PATH);
+        MockServerWebExchange follower = get(PATH);
+
+        CompletableFuture<Void> leaderDone = filter.filter(leader, chain).toFuture();
+        CompletableFuture<Void> followerDone = filter.filter(follower, chain).toFuture();
+        release.tryEmitEmpty();
+        leaderDone.join();
+        followerDone.join();
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(requests("coalesced")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("첫 요청이 실패해도 대기 요청은 원본을 호출한다")
+    void followersCallUpstreamWhenLeaderFails() {
+        AtomicInteger calls = new AtomicInteger();
+        GatewayFilterChain ok = upstream(HttpStatus.OK, null);
+        GatewayFilterChain chain = exchange -> calls.incrementAndGet() == 1
+                ? release.asMono().then(Mono.error(new IllegalStateException("upstream reset")))
+                : ok.filter(exchange);
+        MockServerWebExchange follower = get(PATH);
+
+        CompletableFuture<Void> leaderDone = filter.filter(get(PATH), chain).toFuture();
+        CompletableFuture<Void> followerDone = filter.filter(follower, chain).toFuture();
+        release.tryEmitEmpty();
+
+        assertThat(leaderDone).isCompletedExceptionally();
+        followerDone.join();
+        assertThat(calls).hasValue(2);
+        assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 캐시된 ETag와 같으면 304로 응답한다")
+    void returnsNotModifiedForMatchingETag() {
+        GatewayFilterChain chain = upstream(HttpStatus.OK, null);
+        release.tryEmitEmpty();
+        MockServerWebExchange first = get(PATH);
+        filter.filter(first, chain).block();
+        String etag = first.getResponse().getHeaders().getETag();
+
+        MockServerWebExchange conditional = MockServerWebExchange.from(
+                MockServerHttpRequest.get(PATH).ifNoneMatch(etag));
+        filter.filter(conditional, chain).block();
+
+        assertThat(conditional.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(conditional.getResponse().getBodyAsString().block()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("캐시 키는 허용된 쿼리 파라미터만 이름순으로 포함한다")
+    void buildsKeyFromWhitelistedParams() {
+        ResponseCacheProperties.Rule trends = properties.getRules().get("trends");
+
+        String key = ResponseCacheGlobalFilter.key(MockServerHttpRequest
+                .get("/api/v1/trends?sort=new&_=1718000000&search=a b&major=IT&major=경제").build(), trends);
+        String bustedKey = ResponseCacheGlobalFilter.key(MockServerHttpRequest
+                .get("/api/v1/trends?major=IT&major=경제&search=a b&sort=new&utm=x").build(), trends);
+
+        assertThat(key).isEqualTo("/api/v1/trends?major=IT&major=%EA%B2%BD%EC%A0%9C&search=a+b&sort=new");
+        assertThat(bustedKey).isEqualTo(key);
+        assertThat(ResponseCacheGlobalFilter.key(MockServerHttpRequest.get("/api/v1/trends?_=1").build(), trends))
+                .isEqualTo("/api/v1/trends");
+    }
+
+    private GatewayFilterChain upstream(HttpStatus status, String cookie) {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            return release.asMono().then(Mono.defer(() -> {
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(status);
+                response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                if (cookie != null) {
+                    response.getHeaders().add(HttpHeaders.SET_COOKIE, cookie);
+                }
+                return response.writeWith(Mono.just(
+                        response.bufferFactory().wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+            }));
+        };
+    }
+
+    private static MockServerWebExchange get(String path) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path));
+    }
+
+    private double requests(String result) {
+        return meterRegistry.counter("gateway.response_cache.requests", "result", result).count();
+    }
+}
@@ -0,0 +1,161 @@
+package com.trendchat.apigatewayservice.filter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.luaj.vm2.Globals;
+import org.luaj.vm2.LuaTable;
+import org.luaj.vm2.LuaValue;
+import org.luaj.vm2.Varargs;
+import org.luaj.vm2.lib.VarArgFunction;
+import org.luaj.vm2.lib.jse.JsePlatform;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link RateLimitGlobalFilter#TOKEN_BUCKET_SCRIPT}를 LuaJ에서 실행합니다. {@code redis.call}은 테스트가 시각을 제어하는 인메모리
+ * 구현(TIME, HMGET, HSET, PEXPIRE)으로 대체합니다.
+ */
+class TokenBucketScriptTest {
+
+    private static final String KEY = "rate:chat-send:user:1";
+
+    private final Map<String, Map<String, String>> hashes = new HashMap<>();
+    private final Map<String, Long> ttls = new HashMap<>();
+    private long nowMillis;
+
+    @BeforeEach
+    void setUp() {
+        nowMillis = 1_750_000_000_000L;
+    }
+
+    @Test
+    @DisplayName("새 버킷은 용량에서 요청한 토큰을 차감한다")
+    void grantsRequestedTokensFromFullBucket() {
+        long[] result = run(20, 5, 4);
+
+        assertThat(result).containsExactly(4, 0);
+        assertThat(tokens()).isEqualTo(16.0);
+    }
+
+    @Test
+    @DisplayName("남은 토큰이 요청보다 적으면 있는 만큼만 지급한다")
+    void grantsPartiallyWhenFewerTokensRemain() {
+        run(5, 1, 3);
+
+        long[] result = run(5, 1, 3);
+
+        assertThat(result).containsExactly(2, 0);
+        assertThat(tokens()).isZero();
+    }
+
+    @Test
+    @DisplayName("경과 시간만큼 충전하되 용량을 넘지 않는다")
+    void refillsByElapsedTimeUpToCapacity() {
+        run(10, 2, 10);
+        assertThat(tokens()).isZero();
+
+        nowMillis += 1_500;
+        assertThat(run(10, 2, 1)).containsExactly(1, 0);
+        assertThat(tokens()).isEqualTo(2.0);
+
+        nowMillis += 60_000;
+        assertThat(run(10, 2, 1)).containsExactly(1, 0);
+        assertThat(tokens()).isEqualTo(9.0);
+    }
+
+    @Test
+    @DisplayName("토큰이 1개 미만이면 거절하고 1개가 찰 때까지의 시간을 반환한다")
+    void rejectsWithTimeUntilOneToken() {
+        run(2, 2, 2);
+        nowMillis += 250; // 0.5개 충전
+
+        long[] result = run(2, 2, 1);
+
+        assertThat(result).containsExactly(0, 250);
+        // 거절해도 충전분은 기록
+        assertThat(tokens()).isEqualTo(0.5);
+        assertThat(RateLimitGlobalFilter.retryAfterSeconds(result[1])).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("느린 충전 규칙의 재시도 시간은 초 단위로 올림한다")
+    void roundsRetryAfterUpToSeconds() {
+        // chat-stream 기본 규칙: 5초에 1개
+        run(1, 0.2, 1);
+
+        long[] result = run(1, 0.2, 1);
+
+        assertThat(result).containsExactly(0, 5_000);
+        assertThat(RateLimitGlobalFilter.retryAfterSeconds(result[1])).isEqualTo(5);
+        assertThat(RateLimitGlobalFilter.retryAfterSeconds(5_001)).isEqualTo(6);
+        assertThat(RateLimitGlobalFilter.retryAfterSeconds(1)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버킷은 가득 찰 때까지의 시간보다 조금 길게 유지한다")
+    void expiresBucketAfterFullRefill() {
+        run(20, 5, 1);
+
+        // 20개 / 초당 5개 = 4초 + 여유 1초
+        assertThat(ttls.get(KEY)).isEqualTo(5_000L);
+    }
+
+    private long[] run(long capacity, double refillPerSecond, int requested) {
+        Globals globals = JsePlatform.standardGlobals();
+        LuaTable redis = new LuaTable();
+        redis.set("call", new RedisCall());
+        globals.set("redis", redis);
+        globals.set("KEYS", LuaValue.listOf(new LuaValue[]{LuaValue.valueOf(KEY)}));
+        globals.set("ARGV", LuaValue.listOf(new LuaValue[]{
+                LuaValue.valueOf(String.valueOf(capacity)),
+                LuaValue.valueOf(String.valueOf(refillPerSecond / 1000.0)),
+                LuaValue.valueOf(String.valueOf(requested))}));
+
+        LuaValue result = globals.load(RateLimitGlobalFilter.TOKEN_BUCKET_SCRIPT.getScriptAsString()).call();
+        // Redis는 Lua 숫자를 정수 응답으로 변환
+        return new long[]{result.get(1).tolong(), result.get(2).tolong()};
+    }
+
+    private double tokens() {
+        return Double.parseDouble(hashes.get(KEY).get("tokens"));
+    }
+
+    private class RedisCall extends VarArgFunction {
+
+        @Override
+        public Varargs invoke(Varargs args) {
+            String command = args.checkjstring(1);
+            return switch (command) {
+                case "TIME" -> LuaValue.listOf(new LuaValue[]{
+                        LuaValue.valueOf(String.valueOf(nowMillis / 1000)),
+                        LuaValue.valueOf(String.valueOf(nowMillis % 1000 * 1000))});
+                case "HMGET" -> {
+                    Map<String, String> hash = hashes.getOrDefault(args.checkjstring(2), Map.of());
+                    LuaTable values = new LuaTable();
+                    for (int i = 3; i <= args.narg(); i++) {
+                        String value = hash.get(args.checkjstring(i));
+                        // 없는 필드는 Lua false
+                        values.set(i - 2, value == null ? LuaValue.FALSE : LuaValue.valueOf(value));
+                    }
+                    yield values;
+                }
+                case "HSET" -> {
+                    Map<String, String> hash = hashes.computeIfAbsent(args.checkjstring(2), key -> new HashMap<>());
+                    for (int i = 3; i < args.narg(); i += 2) {
+                        hash.put(args.checkjstring(i), args.arg(i + 1).tojstring());
+                    }
+                    yield LuaValue.valueOf(args.narg() / 2 - 1);
+                }
+                case "PEXPIRE" -> {
+                    ttls.put(args.checkjstring(2), args.arg(3).tolong());
+                    yield LuaValue.ONE;
+                }
+                default -> throw new IllegalArgumentException("unsupported command: " + command);
+            };
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.trendchat.apigatewayservice.loadbalancer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class InstanceStatsTest {
+
+    private static final long DECAY = 10_000;
+    private static final long DEFAULT = 100;
+
+    private final InstanceStats stats = new InstanceStats("chat-1", "http://10.0.0.1:8080");
+
+    @Test
+    @DisplayName("관측값이 없으면 기본 지연 시간을 비용으로 사용한다")
+    void usesDefaultLatencyUntilObserved() {
+        assertThat(stats.isObserved()).isFalse();
+        assertThat(stats.cost(0, DECAY, DEFAULT)).isEqualTo(DEFAULT);
+    }
+
+    @Test
+    @DisplayName("더 큰 지연 시간이 관측되면 즉시 그 값으로 올린다")
+    void jumpsToPeakImmediately() {
+        stats.observe(10, 0, DECAY);
+        stats.observe(500, 0, DECAY);
+
+        assertThat(stats.cost(0, DECAY, DEFAULT)).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("더 작은 지연 시간은 경과 시간에 따라 지수 가중 평균으로 반영한다")
+    void decaysTowardsLowerLatency() {
+        stats.observe(1_000, 0, DECAY);
+        // 시간 상수만큼 지난 뒤 관측 → 이전 값 가중치 e^-1
+        stats.observe(100, DECAY, DECAY);
+
+        double expected = 1_000 * Math.exp(-1) + 100 * (1 - Math.exp(-1));
+        assertThat(stats.cost(DECAY, DECAY, DEFAULT)).isCloseTo(expected, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("관측이 없는 동안에도 비용은 시간에 따라 감쇠한다")
+    void decaysWhileIdle() {
+        stats.observe(1_000, 0, DECAY);
+
+        assertThat(stats.cost(2 * DECAY, DECAY, DEFAULT)).isCloseTo(1_000 * Math.exp(-2), within(1e-6));
+    }
+
+    @Test
+    @DisplayName("이상치 비교용 지연 시간은 감쇠하지 않고, 관측 시각으로 최근 여부를 판단한다")
+    void exposesUndecayedLatencyAndRecency() {
+        assertThat(stats.latency()).isZero();
+        assertThat(stats.isObservedSince(0)).isFalse();
+
+        stats.observe(1_000, 5_000, DECAY);
+
+        assertThat(stats.latency()).isEqualTo(1_000);
+        assertThat(stats.isObservedSince(5_000)).isTrue();
+        assertThat(stats.isObservedSince(5_001)).isFalse();
+    }
+
+    @Test
+    @DisplayName("연속으로 느린 응답 수는 빠른 응답이나 제외 시 초기화된다")
+    void countsConsecutiveSlowSamples() {
+        assertThat(stats.recordLatencySample(true)).isEqualTo(1);
+        assertThat(stats.recordLatencySample(true)).isEqualTo(2);
+        assertThat(stats.recordLatencySample(false)).isZero();
+        assertThat(stats.recordLatencySample(true)).isEqualTo(1);
+
+        stats.eject(1_000);
+
+        assertThat(stats.recordLatencySample(true)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("점수는 비용에 진행 중 요청 수 + 1을 곱한 값이다")
+    void scoresByCostTimesInFlight() {
+        stats.observe(200, 0, DECAY);
+        stats.requestStarted();
+        stats.requestStarted();
+
+        assertThat(stats.score(0, DECAY, DEFAULT)).isEqualTo(600);
+
+        stats.requestFinished();
+        assertThat(stats.score(0, DECAY, DEFAULT)).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("연속 실패는 성공이나 제외 시 초기화되고, 제외는 기한까지만 유지된다")
+    void tracksFailuresAndEjection() {
+        assertThat(stats.recordFailure()).isEqualTo(1);
+        assertThat(stats.recordFailure()).isEqualTo(2);
+        stats.recordSuccess();
+        assertThat(stats.recordFailure()).isEqualTo(1);
+
+        stats.eject(1_000);
+
+        assertThat(stats.isEjected(999)).isTrue();
+        assertThat(stats.isEjected(1_000)).isFalse();
+        assertThat(stats.recordFailure()).isEqualTo(1);
+    }
+}
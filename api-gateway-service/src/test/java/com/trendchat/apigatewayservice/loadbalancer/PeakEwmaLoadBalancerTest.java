@@ -0,0 +1,193 @@
+package com.trendchat.apigatewayservice.loadbalancer;
+
+import com.trendchat.apigatewayservice.config.LoadBalancerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PeakEwmaLoadBalancerTest {
+
+    private static final String SERVICE_ID = "chat-service";
+    private static final int ROUNDS = 200;
+
+    private final LoadBalancerProperties properties = new LoadBalancerProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LoadBalancerStatsRegistry statsRegistry = new LoadBalancerStatsRegistry(properties, meterRegistry);
+
+    private final ServiceInstance fast = instance("chat-1");
+    private final ServiceInstance slow = instance("chat-2");
+    private final ServiceInstance other = instance("chat-3");
+
+    @Test
+    @DisplayName("인스턴스가 없으면 빈 응답을 반환한다")
+    void returnsEmptyResponseWithoutInstances() {
+        assertThat(choose(balancer()).hasServer()).isFalse();
+    }
+
+    @Test
+    @DisplayName("두 후보 중 지연 시간이 낮은 인스턴스를 고른다")
+    void prefersLowerLatency() {
+        complete(fast, Duration.ofMillis(10));
+        complete(slow, Duration.ofMillis(80));
+        PeakEwmaLoadBalancer balancer = balancer(fast, slow);
+
+        for (int i = 0; i < ROUNDS; i++) {
+            assertThat(choose(balancer).getServer()).isEqualTo(fast);
+        }
+    }
+
+    @Test
+    @DisplayName("지연 시간이 같으면 진행 중 요청이 적은 인스턴스를 고른다")
+    void prefersFewerInFlight() {
+        complete(fast, Duration.ofMillis(10));
+        complete(slow, Duration.ofMillis(10));
+        statsRegistry.stats(SERVICE_ID, fast).requestStarted();
+        PeakEwmaLoadBalancer balancer = balancer(fast, slow);
+
+        for (int i = 0; i < ROUNDS; i++) {
+            assertThat(choose(balancer).getServer()).isEqualTo(slow);
+        }
+    }
+
+    @Test
+    @DisplayName("연속 실패로 제외된 인스턴스는 선택하지 않는다")
+    void skipsInstancesEjectedForFailures() {
+        for (int i = 0; i < properties.getFailureThreshold(); i++) {
+            fail(slow);
+        }
+        PeakEwmaLoadBalancer balancer = balancer(fast, slow, other);
+
+        Set<ServiceInstance> chosen = new HashSet<>();
+        for (int i = 0; i < ROUNDS; i++) {
+            chosen.add(choose(balancer).getServer());
+        }
+
+        assertThat(chosen).containsExactlyInAnyOrder(fast, other);
+        assertThat(meterRegistry.counter("gateway.loadbalancer.ejections",
+                "service", SERVICE_ID, "reason", "failures").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스 중앙값의 outlierFactor배를 넘는 응답이 연속되면 제외한다")
+    void ejectsLatencyOutliers() {
+        complete(fast, Duration.ofMillis(10));
+        complete(other, Duration.ofMillis(10));
+
+        for (int i = 0; i < properties.getOutlierConsecutiveSamples(); i++) {
+            assertThat(isEjected(slow)).isFalse();
+            complete(slow, Duration.ofMillis(100));
+        }
+
+        assertThat(isEjected(slow)).isTrue();
+        assertThat(isEjected(fast)).isFalse();
+        assertThat(meterRegistry.counter("gateway.loadbalancer.ejections",
+                "service", SERVICE_ID, "reason", "latency").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("느린 응답 한 건으로는 제외하지 않는다")
+    void toleratesSingleSlowResponse() {
+        complete(fast, Duration.ofMillis(10));
+        complete(other, Duration.ofMillis(10));
+
+        complete(slow, Duration.ofMillis(10));
+        complete(slow, Duration.ofMillis(500));
+        complete(slow, Duration.ofMillis(10));
+        complete(slow, Duration.ofMillis(500));
+
+        assertThat(isEjected(slow)).isFalse();
+    }
+
+    @Test
+    @DisplayName("최근 decay 구간 안에 관측되지 않은 인스턴스는 비교 대상에서 뺀다")
+    void ignoresIdlePeers() {
+        long decayNanos = properties.getDecay().toNanos();
+        long longAgo = System.nanoTime() - Duration.ofSeconds(60).toNanos();
+        // 60초 전 관측값은 감쇠하면 실제 지연 시간의 약 0.25%
+        statsRegistry.stats(SERVICE_ID, fast).observe(Duration.ofMillis(10).toNanos(), longAgo, decayNanos);
+        statsRegistry.stats(SERVICE_ID, other).observe(Duration.ofMillis(10).toNanos(), longAgo, decayNanos);
+
+        for (int i = 0; i < properties.getOutlierConsecutiveSamples() * 2; i++) {
+            complete(slow, Duration.ofMillis(12));
+        }
+
+        assertThat(isEjected(slow)).isFalse();
+    }
+
+    @Test
+    @DisplayName("maxEjectionPercent를 넘어 제외되면 점수가 낮은 제외 인스턴스를 다시 포함한다")
+    void keepsMinimumAvailableInstances() {
+        complete(fast, Duration.ofMillis(10));
+        for (int i = 0; i < properties.getFailureThreshold(); i++) {
+            fail(fast);
+            fail(slow);
+        }
+
+        List<ServiceInstance> available = statsRegistry.available(SERVICE_ID, List.of(fast, slow));
+
+        // 2개 중 최대 50%만 제외 → 1개는 유지, 관측값이 있는(기본값 100ms보다 빠른) fast가 복귀
+        assertThat(available).containsExactly(fast);
+    }
+
+    @Test
+    @DisplayName("목록에서 사라진 인스턴스의 통계는 정리한다")
+    void prunesStatsForRemovedInstances() {
+        complete(fast, Duration.ofMillis(10));
+        complete(slow, Duration.ofMillis(10));
+
+        statsRegistry.available(SERVICE_ID, List.of(fast));
+
+        assertThat(statsRegistry.snapshot().get(SERVICE_ID))
+                .extracting(entry -> entry.get("instanceId"))
+                .containsExactly("chat-1");
+    }
+
+    private PeakEwmaLoadBalancer balancer(ServiceInstance... instances) {
+        ServiceInstanceListSupplier supplier = ServiceInstanceListSuppliers.from(SERVICE_ID, instances);
+        @SuppressWarnings("unchecked")
+        ObjectProvider<ServiceInstanceListSupplier> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any())).thenReturn(supplier);
+        return new PeakEwmaLoadBalancer(provider, SERVICE_ID, statsRegistry);
+    }
+
+    private Response<ServiceInstance> choose(PeakEwmaLoadBalancer balancer) {
+        return balancer.choose(new DefaultRequest<>()).block();
+    }
+
+    private void complete(ServiceInstance instance, Duration rtt) {
+        InstanceStats stats = statsRegistry.stats(SERVICE_ID, instance);
+        stats.requestStarted();
+        statsRegistry.recordCompletion(SERVICE_ID, stats, rtt.toNanos(), false);
+    }
+
+    private void fail(ServiceInstance instance) {
+        InstanceStats stats = statsRegistry.stats(SERVICE_ID, instance);
+        stats.requestStarted();
+        statsRegistry.recordCompletion(SERVICE_ID, stats, 0, true);
+    }
+
+    private boolean isEjected(ServiceInstance instance) {
+        return statsRegistry.stats(SERVICE_ID, instance).isEjected(System.nanoTime());
+    }
+
+    private static ServiceInstance instance(String instanceId) {
+        return new DefaultServiceInstance(instanceId, SERVICE_ID, instanceId + ".local", 8080, false);
+    }
+}
@@ -0,0 +1,59 @@
+package com.trendchat.chatservice.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 1건을 채팅방 구독 연결 {@code subscribers}개에 전달할 때의 인코딩 비용을 비교합니다.
+ * <ul>
+ *     <li>{@code perConnection}: 연결마다 SSE 프레임을 인코딩 (응답별 {@code ServerSentEvent} 인코딩과 같은 구조)</li>
+ *     <li>{@code sharedFrame}: 프레임을 한 번 인코딩하고 연결마다 복사 없이 감싸기만 함</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SseBroadcastBenchmark {
+
+    @Param({"1", "100", "1000"})
+    int subscribers;
+
+    private final DataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+    private String id;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        id = "123456789012345678";
+        json = """
+                {"id":"123456789012345678","roomId":42,"senderId":"user-1","senderNickname":"트렌드챗",\
+                "content":"오늘 실검 1위 뭐예요? 다들 이 얘기만 하네요","timestamp":"2025-06-01T12:34:56",\
+                "isMine":false}""";
+    }
+
+    @Benchmark
+    public void perConnection(Blackhole blackhole) {
+        for (int i = 0; i < subscribers; i++) {
+            blackhole.consume(bufferFactory.wrap(SseFrames.event(id, "message", json)));
+        }
+    }
+
+    @Benchmark
+    public void sharedFrame(Blackhole blackhole) {
+        byte[] frame = SseFrames.event(id, "message", json);
+        for (int i = 0; i < subscribers; i++) {
+            blackhole.consume(bufferFactory.wrap(frame));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.trendchat.chatservice.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.BlockingOperationError;
+
+/**
+ * Reactor 논블로킹 스레드(reactor-http-nio 등)에서 발생한 블로킹 호출을 감지하는 설정입니다.
+ * <p>
+ * 테스트에서는 {@code blockhound-junit-platform}이 자동으로 설치되어 블로킹 호출 시 실패하고, 운영 외 환경(staging)에서는
+ * {@code chat.blockhound.enabled=true}로 켜면 요청을 실패시키지 않고 호출 위치의 스택 트레이스만 경고 로그로 남깁니다. JDK 13 이상에서는
+ * {@code -XX:+AllowRedefinitionToAddDeleteMethods} JVM 옵션이 필요합니다.
+ * </p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "chat.blockhound.enabled", havingValue = "true")
+public class BlockHoundConfig {
+
+    @PostConstruct
+    public void install() {
+        BlockHound.builder()
+                .blockingMethodCallback(method -> log.warn("Blocking call on non-blocking thread [{}]: {}",
+                        Thread.currentThread().getName(), method, new BlockingOperationError(method)))
+                .install();
+        log.info("BlockHound installed (report mode)");
+    }
+}
@@ -0,0 +1,164 @@
+package com.trendchat.chatservice.config;
+
+import com.trendchat.chatservice.dto.ChatMessageDto;
+import com.trendchat.chatservice.service.ChatMessageConsumer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.BatchMessageListener;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.amqp.rabbit.retry.RepublishMessageRecoverer;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.support.RetryTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이 인스턴스에 할당된 파티션마다 전용 리스너를 등록하는 설정 클래스입니다.
+ * <p>
+ * 파티션당 소비자 스레드는 하나(concurrency 1)이므로 같은 채팅방의 메시지는 순서대로 처리되고, 서로 다른 파티션은 병렬로 처리됩니다. 파티션별
+ * 적재 메시지 수는 {@code chat.partition.lag} 게이지로 노출합니다.
+ * </p>
+ * <p>
+ * 소비자는 최대 {@code batchSize}개 또는 {@code batchTimeout} 동안 모인 메시지를 한 번에 전달받으며, 리스너가 정상 반환(배치 커밋 완료)한
+ * 뒤에만 해당 배치의 delivery를 ack합니다.
+ * </p>
+ * <p>
+ * 실패한 메시지는 Queue에 다시 넣지 않고 DLQ({@value RabbitMQConfig#CHAT_DEAD_LETTER_QUEUE})로 보내, 같은 배치가 무한히 재전달되며
+ * 파티션을 막지 않도록 합니다.
+ * </p>
+ * <ul>
+ *     <li>변환할 수 없는 메시지는 재시도 구간 밖에서 한 번만 DLQ로 보내고 나머지는 그대로 저장합니다.</li>
+ *     <li>저장이 실패하면 {@code maxAttempts}번까지 재시도한 뒤, 변환된 메시지만 DLQ로 보내고 배치를 ack합니다.</li>
+ * </ul>
+ * <p>
+ * DLQ로 보낸 메시지 수는 {@code chat.partition.dead_lettered{reason=conversion|processing}}으로 노출합니다.
+ * </p>
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ChatPartitionListenerConfig implements RabbitListenerConfigurer {
+
+    private final ChatPartitionProperties partitionProperties;
+    private final ChatMessageConsumer chatMessageConsumer;
+    private final MessageConverter messageConverter;
+    private final ConnectionFactory connectionFactory;
+    private final AmqpAdmin amqpAdmin;
+    private final RabbitTemplate rabbitTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void configureRabbitListeners(RabbitListenerEndpointRegistrar registrar) {
+        SimpleRabbitListenerContainerFactory factory = partitionContainerFactory();
+        RepublishMessageRecoverer deadLetterRecoverer = new RepublishMessageRecoverer(rabbitTemplate,
+                RabbitMQConfig.CHAT_DEAD_LETTER_EXCHANGE, RabbitMQConfig.CHAT_DEAD_LETTER_QUEUE);
+        Counter conversionFailures = deadLetterCounter("conversion");
+        Counter processingFailures = deadLetterCounter("processing");
+        RetryTemplate retryTemplate = retryTemplate();
+
+        for (Integer partition : partitionProperties.getAssignedPartitions()) {
+            String queueName = RabbitMQConfig.partitionQueue(partition);
+
+            SimpleRabbitListenerEndpoint endpoint = new SimpleRabbitListenerEndpoint();
+            endpoint.setId("chat-partition-" + partition);
+            endpoint.setQueueNames(queueName);
+            endpoint.setConcurrency("1");
+            endpoint.setMessageListener((BatchMessageListener) messages -> {
+                // 변환은 재시도하지 않음 (재시도마다 같은 메시지를 DLQ로 다시 보내지 않도록)
+                ConvertedBatch batch = convert(messages, deadLetterRecoverer, conversionFailures);
+                if (batch.messages().isEmpty()) {
+                    return;
+                }
+                retryTemplate.execute(context -> {
+                    chatMessageConsumer.receive(batch.messages());
+                    return null;
+                }, context -> {
+                    log.error("Dead-lettering batch of {} after {} attempts", batch.sources().size(),
+                            context.getRetryCount(), context.getLastThrowable());
+                    Throwable cause = context.getLastThrowable();
+                    batch.sources().forEach(message -> deadLetterRecoverer.recover(message, cause));
+                    processingFailures.increment(batch.sources().size());
+                    return null;
+                });
+            });
+            registrar.registerEndpoint(endpoint, factory);
+
+            Gauge.builder("chat.partition.lag", () -> queueDepth(queueName))
+                    .description("파티션 Queue에 적재된 미처리 메시지 수")
+                    .tag("partition", String.valueOf(partition))
+                    .register(meterRegistry);
+        }
+    }
+
+    // 파티션 소비자 전용 배치 컨테이너 (전파 Queue 리스너는 기본 컨테이너 사용)
+    private SimpleRabbitListenerContainerFactory partitionContainerFactory() {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(partitionProperties.getBatchSize());
+        factory.setBatchReceiveTimeout(partitionProperties.getBatchTimeout().toMillis());
+        factory.setPrefetchCount(partitionProperties.getBatchSize() * 2);
+        // DLQ 재발행마저 실패한 경우에도 Queue에 다시 넣지 않고 DLX로 보냄
+        factory.setDefaultRequeueRejected(false);
+        return factory;
+    }
+
+    // 저장 단계(chatMessageConsumer.receive)만 재시도
+    private RetryTemplate retryTemplate() {
+        long backoffMillis = partitionProperties.getRetryBackoff().toMillis();
+        return RetryTemplate.builder()
+                .maxAttempts(partitionProperties.getMaxAttempts())
+                .exponentialBackoff(backoffMillis, 2.0, backoffMillis * 10)
+                .build();
+    }
+
+    // 메시지별로 변환하고, 변환할 수 없는 메시지는 재전달해도 다시 실패하므로 배치에서 빼서 DLQ로 보냄
+    private ConvertedBatch convert(List<Message> messages, RepublishMessageRecoverer deadLetterRecoverer,
+            Counter conversionFailures) {
+        List<Message> sources = new ArrayList<>(messages.size());
+        List<ChatMessageDto> batch = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            try {
+                batch.add((ChatMessageDto) messageConverter.fromMessage(message));
+                sources.add(message);
+            } catch (RuntimeException e) {
+                log.warn("Dead-lettering unconvertible chat message: {}", e.getMessage());
+                deadLetterRecoverer.recover(message, e);
+                conversionFailures.increment();
+            }
+        }
+        return new ConvertedBatch(sources, batch);
+    }
+
+    private Counter deadLetterCounter(String reason) {
+        return Counter.builder("chat.partition.dead_lettered")
+                .description("DLQ로 보낸 파티션 메시지 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private double queueDepth(String queueName) {
+        QueueInformation info = amqpAdmin.getQueueInfo(queueName);
+        return info != null ? info.getMessageCount() : Double.NaN;
+    }
+
+    // 변환된 메시지와 그 원본 (저장 실패 시 원본을 DLQ로 보냄)
+    private record ConvertedBatch(List<Message> sources, List<ChatMessageDto> messages) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.trendchat.chatservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 채팅 메시지 파티션 설정입니다.
+ * <p>
+ * {@code count}는 모든 인스턴스에서 같아야 하며(라우팅 기준), {@code assigned}는 이 인스턴스가 소비할 파티션 번호 목록입니다. 비어 있으면
+ * 전체 파티션을 소비합니다. {@code batchSize}/{@code batchTimeout}은 파티션 소비자가 한 번에 저장할 최대 메시지 수와 배치를
+ * 채우기 위해 기다리는 최대 시간입니다. 배치 저장이 실패하면 {@code retryBackoff}부터 두 배씩 늘려 가며 최대 {@code maxAttempts}번까지
+ * 시도하고, 그래도 실패하면 배치를 DLQ로 보냅니다.
+ * </p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat.partition")
+public class ChatPartitionProperties {
+    private int count = 4;
+    private List<Integer> assigned = new ArrayList<>();
+    private int batchSize = 200;
+    private Duration batchTimeout = Duration.ofMillis(50);
+    private int maxAttempts = 3;
+    private Duration retryBackoff = Duration.ofSeconds(1);
+
+    public List<Integer> getAssignedPartitions() {
+        if (assigned.isEmpty()) {
+            return IntStream.range(0, count).boxed().toList();
+        }
+        return assigned;
+    }
+}
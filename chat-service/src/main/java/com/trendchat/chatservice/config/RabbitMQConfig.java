@@ -1,8 +1,15 @@
 package com.trendchat.chatservice.config;
 
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -10,12 +17,22 @@ import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Configuration
 public class RabbitMQConfig {
     // Exchange / Queue / Routing Key 이름 상수로 선언
     public static final String CHAT_EXCHANGE = "chat-exchange";
+    // 파티션별 Queue / Routing Key 접두사 (chat-queue.{partition}, chat-message.{partition})
     public static final String CHAT_QUEUE = "chat-queue";
     public static final String CHAT_ROUTING_KEY = "chat-message";
+    // 발행된 메시지를 모든 chat-service 인스턴스에 전파하기 위한 Fanout Exchange
+    // (DB 저장과 병렬로 전파되므로 구독자는 저장이 끝나기 전에 메시지를 받을 수 있음)
+    public static final String CHAT_BROADCAST_EXCHANGE = "chat-broadcast-exchange";
+    // 변환/저장에 실패한 파티션 메시지를 보관하는 Dead Letter Exchange / Queue
+    public static final String CHAT_DEAD_LETTER_EXCHANGE = "chat-dlx";
+    public static final String CHAT_DEAD_LETTER_QUEUE = "chat-queue.dlq";
 
     //메시지 라우팅용 TopicExchange 생성 (메시지 라우팅 규칙 지정 )
     @Bean
@@ -23,16 +40,55 @@ public class RabbitMQConfig {
         return new TopicExchange(CHAT_EXCHANGE);
     }
 
-    //메시지 보관용 Queue 생성
+    //파티션별 메시지 보관용 Queue 생성 및 Routing Key로 연결 (Exchange ↔ Queue 연결, Routing Key로 필터링)
+    //Queue 인자는 변경할 수 없으므로, Dead Letter 설정이 없는 기존 Queue는 비운 뒤 삭제해야 다시 선언됨
+    @Bean
+    public Declarables chatPartitionDeclarables(ChatPartitionProperties partitionProperties) {
+        List<Declarable> declarables = new ArrayList<>();
+        for (int partition = 0; partition < partitionProperties.getCount(); partition++) {
+            Queue queue = QueueBuilder.durable(partitionQueue(partition)) //	Queue가 디스크에 저장되어 서버 재시작 후에도 유지됨
+                    .singleActiveConsumer() // 인스턴스가 여러 대여도 파티션당 하나의 소비자만 활성화 → 방 단위 순서 보장
+                    .deadLetterExchange(CHAT_DEAD_LETTER_EXCHANGE) // reject된 메시지는 재큐잉 대신 DLQ로 이동
+                    .deadLetterRoutingKey(CHAT_DEAD_LETTER_QUEUE)
+                    .build();
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue).to(chatExchange()).with(partitionRoutingKey(partition)));
+        }
+        return new Declarables(declarables);
+    }
+
+    //Dead Letter Exchange와 DLQ 생성 (모든 파티션 공용, 원인 확인 후 수동 재처리)
+    @Bean
+    public Declarables chatDeadLetterDeclarables() {
+        DirectExchange exchange = new DirectExchange(CHAT_DEAD_LETTER_EXCHANGE);
+        Queue queue = QueueBuilder.durable(CHAT_DEAD_LETTER_QUEUE).build();
+        return new Declarables(exchange, queue, BindingBuilder.bind(queue).to(exchange).with(CHAT_DEAD_LETTER_QUEUE));
+    }
+
+    public static String partitionQueue(int partition) {
+        return CHAT_QUEUE + "." + partition;
+    }
+
+    public static String partitionRoutingKey(int partition) {
+        return CHAT_ROUTING_KEY + "." + partition;
+    }
+
+    //발행된 메시지 전파용 FanoutExchange 생성 (바인딩된 모든 Queue에 복제)
+    @Bean
+    public FanoutExchange chatBroadcastExchange() {
+        return new FanoutExchange(CHAT_BROADCAST_EXCHANGE);
+    }
+
+    //인스턴스 전용 전파 Queue 생성 (exclusive, auto-delete → 인스턴스 종료 시 자동 삭제)
     @Bean
-    public Queue chatQueue() {
-        return new Queue(CHAT_QUEUE, true); //	Queue가 디스크에 저장되어 서버 재시작 후에도 유지됨
+    public Queue chatBroadcastQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy("chat-broadcast."));
     }
 
-    //메시지 라우팅(Exchange)& Queue를 Routing Key로 연결(Exchange ↔ Queue 연결, Routing Key로 필터링)
+    //모든 인스턴스의 전파 Queue가 같은 메시지를 수신하도록 Fanout Exchange에 연결
     @Bean
-    public Binding chatBinding() {
-        return BindingBuilder.bind(chatQueue()).to(chatExchange()).with(CHAT_ROUTING_KEY);
+    public Binding chatBroadcastBinding() {
+        return BindingBuilder.bind(chatBroadcastQueue()).to(chatBroadcastExchange());
     }
 
     @Bean
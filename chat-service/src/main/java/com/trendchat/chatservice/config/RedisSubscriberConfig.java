@@ -1,10 +1,13 @@
 package com.trendchat.chatservice.config;
 
+import com.trendchat.auth.util.RedisBlacklistChecker;
 import com.trendchat.chatservice.service.RedisSubscriber;
+import com.trendchat.chatservice.service.RoomMemberEventSubscriber;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
@@ -13,12 +16,17 @@ import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 public class RedisSubscriberConfig {
 
     private final RedisSubscriber subscriber;
+    private final RoomMemberEventSubscriber roomMemberEventSubscriber;
+    private final RedisBlacklistChecker blacklistChecker;
 
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory factory) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(factory);
         container.addMessageListener(subscriber, new PatternTopic("room.*"));
+        container.addMessageListener(roomMemberEventSubscriber,
+                new ChannelTopic(RoomMemberEventSubscriber.ROOM_MEMBER_JOINED_CHANNEL));
+        container.addMessageListener(blacklistChecker, new ChannelTopic(RedisBlacklistChecker.BLACKLIST_CHANNEL));
         return container;
     }
     }
\ No newline at end of file
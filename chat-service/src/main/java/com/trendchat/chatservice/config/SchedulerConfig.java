@@ -0,0 +1,57 @@
+package com.trendchat.chatservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 블로킹 작업(JPA, RedisTemplate, RabbitTemplate)을 Netty 이벤트 루프 밖에서 실행하기 위한 전용 Scheduler 설정입니다.
+ * <p>
+ * 컨트롤러는 블로킹 서비스 호출을 {@code Mono.fromCallable(...).subscribeOn(blockingScheduler)}로 감싸 이 Scheduler에서 실행합니다.
+ * 스레드 수는 DB 커넥션 풀 크기에 맞춰 {@code chat.blocking.thread-cap}(기본 10)으로 제한하고, 대기 작업도
+ * {@code chat.blocking.queue-cap}(기본 10000)을 넘으면 거절하여 과부하가 이벤트 루프나 힙으로 번지지 않게 합니다.
+ * </p>
+ *
+ * <h3>메트릭 (prefix: chat.blocking.scheduler)</h3>
+ * <pre>{@code
+ * .tasks.pending     작업 대기 시간 (Timer, 큐에 들어가 실행되기까지)
+ * .tasks.completed   작업 실행 시간 (Timer)
+ * .tasks.active      실행 중인 작업 수
+ * .tasks.submitted   제출된 작업 수 (submission.type 태그)
+ * }</pre>
+ *
+ * <h3>@Scheduled 작업</h3>
+ * <p>
+ * 기본 스케줄러는 스레드가 1개라서 통계 보정(reconcile)처럼 오래 걸리는 작업이 SSE heartbeat, 요약 병합 flush,
+ * Snowflake 워커 ID 임대 갱신을 밀어낼 수 있습니다(임대 갱신이 TTL을 넘겨 밀리면 ID 발급이 거부됨).
+ * {@code chat.scheduling.pool-size}(기본 4)개 스레드 풀에서 실행하여 작업끼리 서로 막지 않게 합니다.
+ * </p>
+ */
+@Configuration
+public class SchedulerConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler blockingScheduler(
+            @Value("${chat.blocking.thread-cap:10}") int threadCap,
+            @Value("${chat.blocking.queue-cap:10000}") int queueCap,
+            MeterRegistry meterRegistry
+    ) {
+        Scheduler scheduler = Schedulers.newBoundedElastic(threadCap, queueCap, "chat-blocking");
+        return Micrometer.timedScheduler(scheduler, meterRegistry, "chat.blocking", Tags.empty());
+    }
+
+    // @EnableScheduling은 이름이 taskScheduler인 빈을 사용 (Spring Boot 기본 단일 스레드 스케줄러를 대체)
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${chat.scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("chat-scheduling-");
+        return scheduler;
+    }
+}
@@ -1,5 +1,7 @@
 package com.trendchat.chatservice.config;
 
+import com.trendchat.auth.filter.GatewayIdentityFilterWebFlux;
+import com.trendchat.auth.util.GatewayIdentityVerifier;
 import com.trendchat.trendchatcommon.filter.AuthorizationFilterWebFlux;
 import com.trendchat.trendchatcommon.util.BlacklistChecker;
 import com.trendchat.trendchatcommon.util.JwtUtil;
@@ -21,6 +23,7 @@ import org.springframework.security.web.server.context.NoOpServerSecurityContext
  * <h2>주요 역할</h2>
  * <ul>
  *     <li>JWT 유틸리티 및 블랙리스트 체크를 활용한 {@link AuthorizationFilterWebFlux} 등록</li>
+ *     <li>게이트웨이가 서명한 식별 헤더가 있으면 JWT 검증을 생략하는 {@link GatewayIdentityFilterWebFlux} 적용</li>
  *     <li>CSRF, 기본 인증, 폼 로그인을 비활성화하여 REST API 환경에 최적화</li>
  *     <li>인증 필요 여부를 경로별로 정의:
  *         <ul>
@@ -45,15 +48,21 @@ public class SecurityConfig {
 
     /**
      * JWT 인증 및 블랙리스트 검증을 수행하는 WebFlux 전용 필터를 Bean으로 등록합니다.
+     * <p>
+     * 게이트웨이 식별 헤더가 유효하면 그 정보로 인증하고, 아니면 {@link AuthorizationFilterWebFlux}로 토큰을 직접 검증합니다.
+     * </p>
      *
      * @param blacklistChecker 블랙리스트 토큰 검사 유틸리티
-     * @return {@link AuthorizationFilterWebFlux} 인스턴스
+     * @param identityVerifier 게이트웨이 식별 헤더 검증기
+     * @return {@link GatewayIdentityFilterWebFlux} 인스턴스
      */
     @Bean
-    public AuthorizationFilterWebFlux authorizationFilter(
-            BlacklistChecker blacklistChecker
+    public GatewayIdentityFilterWebFlux authorizationFilter(
+            BlacklistChecker blacklistChecker,
+            GatewayIdentityVerifier identityVerifier
     ) {
-        return new AuthorizationFilterWebFlux(jwtUtil, blacklistChecker);
+        return new GatewayIdentityFilterWebFlux(identityVerifier,
+                new AuthorizationFilterWebFlux(jwtUtil, blacklistChecker));
     }
 
     /**
@@ -71,7 +80,7 @@ public class SecurityConfig {
     @Bean
     public SecurityWebFilterChain securityWebFilterChain(
             ServerHttpSecurity httpSecurity,
-            AuthorizationFilterWebFlux authorizationFilter
+            GatewayIdentityFilterWebFlux authorizationFilter
     ) {
         return httpSecurity
                 .csrf(ServerHttpSecurity.CsrfSpec::disable)
@@ -0,0 +1,34 @@
+package com.trendchat.chatservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * SSE 연결별 송신 버퍼 설정입니다.
+ * <p>
+ * 연결마다 최대 {@code bufferSize}개의 이벤트만 대기시키며, 느린 클라이언트로 버퍼가 가득 차면 {@code overflowPolicy}에 따라 가장 오래된
+ * 이벤트를 버리거나({@link OverflowPolicy#DROP_OLDEST}), 대기 이벤트를 버리고 {@code reconnectDelay} 후 재연결하라는 이벤트와 함께
+ * 연결을 종료합니다({@link OverflowPolicy#DISCONNECT}). 유저당 동시 연결은 {@code maxConnectionsPerUser}개까지 유지하며, 초과 시
+ * 가장 오래된 연결을 종료합니다. 채팅 스트림은 {@code heartbeatInterval}마다 공유 heartbeat로 유휴 연결에 ping을 보냅니다.
+ * </p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat.sse")
+public class SseProperties {
+    private int bufferSize = 256;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+    private Duration reconnectDelay = Duration.ofSeconds(3);
+    private int maxConnectionsPerUser = 5;
+    private Duration heartbeatInterval = Duration.ofSeconds(5);
+
+    public enum OverflowPolicy {
+        DROP_OLDEST,
+        DISCONNECT
+    }
+}
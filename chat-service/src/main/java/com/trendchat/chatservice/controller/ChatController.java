@@ -1,16 +1,18 @@
 package com.trendchat.chatservice.controller;
 
+import com.trendchat.chatservice.dto.ChatMessageHistoryResponse;
 import com.trendchat.chatservice.dto.ChatMessageRequest;
-import com.trendchat.chatservice.dto.ChatMessageResponse;
 import com.trendchat.chatservice.service.ChatService;
 import com.trendchat.chatservice.service.ChatSseService;
 import com.trendchat.trendchatcommon.auth.AuthUser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.http.MediaType;
-import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.util.List;
 
@@ -20,28 +22,49 @@ import java.util.List;
 public class ChatController {
     private final ChatService chatService;
     private final ChatSseService chatSseService;
+    // JPA·Redis·RabbitMQ 호출은 이벤트 루프가 아닌 전용 Scheduler에서 실행
+    private final Scheduler blockingScheduler;
 
     // 클라이언트 → 서버로 메시지 전송 (MQ 발행)
     @PostMapping("/send")
-    public void send(@RequestBody ChatMessageRequest messageRequest, @AuthenticationPrincipal AuthUser authUser) {
+    public Mono<Void> send(@RequestBody ChatMessageRequest messageRequest, @AuthenticationPrincipal AuthUser authUser) {
         ChatMessageRequest fullMessageRequest = ChatMessageRequest.builder()
                 .roomId(messageRequest.roomId())
                 .sender(authUser.getUserId())
                 .senderNickName(authUser.getNickname())
                 .content(messageRequest.content())
                 .build();
-        chatService.handleMessage(fullMessageRequest);
+        return Mono.fromRunnable(() -> chatService.handleMessage(fullMessageRequest))
+                .subscribeOn(blockingScheduler)
+                .then();
     }
 
     // 클라이언트가 실시간 채팅 메시지를 수신 (SSE)
+    // roomIds 미지정 시 참여 중인 채팅방 전체의 메시지를 수신
+    // 메시지당 한 번 인코딩된 프레임을 복사 없이 감싸서 프레임마다 flush (연결별 ServerSentEvent 인코딩 없음)
     @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public Flux<ServerSentEvent<ChatMessageResponse>> stream(@AuthenticationPrincipal AuthUser user) {
-        return chatSseService.subscribe(user.getUserId());
+    public Mono<Void> stream(
+            @RequestParam(required = false) List<Long> roomIds,
+            @AuthenticationPrincipal AuthUser user,
+            ServerHttpResponse response
+    ) {
+        response.getHeaders().setContentType(MediaType.TEXT_EVENT_STREAM);
+        DataBufferFactory bufferFactory = response.bufferFactory();
+        return response.writeAndFlushWith(chatSseService.subscribe(user.getUserId(), roomIds)
+                .map(frame -> Mono.just(bufferFactory.wrap(frame))));
     }
 
-    // 과거 메시지 조회 API (roomId 기준)
+    // 과거 메시지 조회 API (roomId 기준, 메시지 ID 커서 페이지네이션)
+    // before: 해당 ID 이전 메시지, after: 해당 ID 이후 메시지, 둘 다 없으면 최신 페이지
     @GetMapping("/history/{roomId}")
-    public List<ChatMessageResponse> getMessageHistory(@PathVariable Long roomId, @AuthenticationPrincipal AuthUser authUser) {
-        return chatService.getMessageHistory(roomId, authUser.getUserId());
+    public Mono<ChatMessageHistoryResponse> getMessageHistory(
+            @PathVariable Long roomId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal AuthUser authUser
+    ) {
+        return Mono.fromCallable(() -> chatService.getMessageHistory(roomId, authUser.getUserId(), before, after, size))
+                .subscribeOn(blockingScheduler);
     }
 }
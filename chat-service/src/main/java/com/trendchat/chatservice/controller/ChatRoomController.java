@@ -12,6 +12,8 @@ import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.util.List;
 import java.util.Map;
@@ -24,60 +26,76 @@ public class ChatRoomController {
 
     private final ChatRoomService chatRoomService;
     private final SummarySseService summarySseService;
+    // JPA·Redis 호출은 이벤트 루프가 아닌 전용 Scheduler에서 실행
+    private final Scheduler blockingScheduler;
 
     @GetMapping
-    public ResponseEntity<List<ChatRoomListResponse>> getAllChatRooms() {
-        return ResponseEntity.ok(chatRoomService.getAllChatRooms());
+    public Mono<ResponseEntity<List<ChatRoomListResponse>>> getAllChatRooms() {
+        return Mono.fromCallable(() -> ResponseEntity.ok(chatRoomService.getAllChatRooms()))
+                .subscribeOn(blockingScheduler);
     }
 
     @GetMapping("/total")
-    public ResponseEntity<Long> getTotalChatRooms(@AuthenticationPrincipal AuthUser authUser) {
-        return ResponseEntity.ok(chatRoomService.getTotalChatRooms(authUser.getUserId()));
+    public Mono<ResponseEntity<Long>> getTotalChatRooms(@AuthenticationPrincipal AuthUser authUser) {
+        return Mono.fromCallable(() -> ResponseEntity.ok(chatRoomService.getTotalChatRooms(authUser.getUserId())))
+                .subscribeOn(blockingScheduler);
     }
 
     @GetMapping("/{roomId}")
-    public ResponseEntity<ChatRoomResponse> getChatRoomById(@PathVariable Long roomId, @AuthenticationPrincipal AuthUser authUser) {
-        return ResponseEntity.ok(chatRoomService.getChatRoomByIdResponse(roomId, authUser.getUserId()));
+    public Mono<ResponseEntity<ChatRoomResponse>> getChatRoomById(@PathVariable Long roomId, @AuthenticationPrincipal AuthUser authUser) {
+        return Mono.fromCallable(() -> ResponseEntity.ok(chatRoomService.getChatRoomByIdResponse(roomId, authUser.getUserId())))
+                .subscribeOn(blockingScheduler);
     }
 
     // 조회 전용 (존재하는 채팅방만 조회)
     @GetMapping("/title/{title}")
-    public ResponseEntity<ChatRoomResponse> getByTitle(@PathVariable String title, @AuthenticationPrincipal AuthUser authUser) {
-        Optional<ChatRoomResponse> response = chatRoomService.findResponseByTitle(title, authUser.getUserId());
+    public Mono<ResponseEntity<ChatRoomResponse>> getByTitle(@PathVariable String title, @AuthenticationPrincipal AuthUser authUser) {
+        return Mono.fromCallable(() -> {
+                    Optional<ChatRoomResponse> response = chatRoomService.findResponseByTitle(title, authUser.getUserId());
 
-        return response
-                .map(ResponseEntity::ok)
-                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+                    return response
+                            .map(ResponseEntity::ok)
+                            .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+                })
+                .subscribeOn(blockingScheduler);
     }
 
     // 생성 전용 (없으면 새로 생성)
     @PostMapping("/title/{title}")
-    public ResponseEntity<ChatRoomResponse> createByTitle(@PathVariable String title, @AuthenticationPrincipal AuthUser authUser) {
-        return ResponseEntity.ok(chatRoomService.createByTitle(title, authUser.getUserId()));
+    public Mono<ResponseEntity<ChatRoomResponse>> createByTitle(@PathVariable String title, @AuthenticationPrincipal AuthUser authUser) {
+        return Mono.fromCallable(() -> ResponseEntity.ok(chatRoomService.createByTitle(title, authUser.getUserId())))
+                .subscribeOn(blockingScheduler);
     }
 
     // 일부 list & top5 list받으면 그것만 통계
     @PostMapping("/stats/bulk")
-    public ResponseEntity<Map<Long, ChatRoomStatsResponse>> getRoomStats(@RequestBody List<Long> roomIds) {
-        return ResponseEntity.ok(chatRoomService.getRoomStats(roomIds));
+    public Mono<ResponseEntity<Map<Long, ChatRoomStatsResponse>>> getRoomStats(@RequestBody List<Long> roomIds) {
+        return Mono.fromCallable(() -> ResponseEntity.ok(chatRoomService.getRoomStats(roomIds)))
+                .subscribeOn(blockingScheduler);
     }
 
     // 전체 방 통계
     @GetMapping("/stats/all")
-    public ResponseEntity<Map<Long, ChatRoomStatsResponse>> getAllStats() {
-        return ResponseEntity.ok(chatRoomService.getAllRoomStats());
+    public Mono<ResponseEntity<Map<Long, ChatRoomStatsResponse>>> getAllStats() {
+        return Mono.fromCallable(() -> ResponseEntity.ok(chatRoomService.getAllRoomStats()))
+                .subscribeOn(blockingScheduler);
     }
 
-    // 상위 5개 방 ID
+    // 최근 hours시간 동안 가장 활발한 방 ID (기본 24시간 상위 6개)
     @GetMapping("/stats/top5")
-    public ResponseEntity<List<Long>> getTop6RoomIds() {
-        return ResponseEntity.ok(chatRoomService.getTop6ActiveRoomIds());
+    public Mono<ResponseEntity<List<Long>>> getTopRoomIds(
+            @RequestParam(defaultValue = "6") int limit,
+            @RequestParam(defaultValue = "24") int hours
+    ) {
+        return Mono.fromCallable(() -> ResponseEntity.ok(chatRoomService.getTopActiveRoomIds(limit, hours)))
+                .subscribeOn(blockingScheduler);
     }
 
     //구독중 채티방 목록
     @GetMapping("/my")
-    public ResponseEntity<List<MyRoomResponse>> getMyRooms(@AuthenticationPrincipal AuthUser authUser) {
-        return ResponseEntity.ok(chatRoomService.getMyRooms(authUser.getUserId()));
+    public Mono<ResponseEntity<List<MyRoomResponse>>> getMyRooms(@AuthenticationPrincipal AuthUser authUser) {
+        return Mono.fromCallable(() -> ResponseEntity.ok(chatRoomService.getMyRooms(authUser.getUserId())))
+                .subscribeOn(blockingScheduler);
     }
 
     //뉴메세지 알림
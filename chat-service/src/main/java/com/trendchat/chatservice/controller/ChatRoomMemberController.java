@@ -6,6 +6,8 @@ import com.trendchat.trendchatcommon.auth.AuthUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.util.List;
 
@@ -15,14 +17,18 @@ import java.util.List;
 public class ChatRoomMemberController {
 
     private final ChatRoomMemberService chatRoomMemberService;
+    private final Scheduler blockingScheduler;
 
     @GetMapping("/{roomId}/members")
-    public List<ChatRoomMemberDto> getMembers(@PathVariable Long roomId) {
-        return chatRoomMemberService.getMembers(roomId);
+    public Mono<List<ChatRoomMemberDto>> getMembers(@PathVariable Long roomId) {
+        return Mono.fromCallable(() -> chatRoomMemberService.getMembers(roomId))
+                .subscribeOn(blockingScheduler);
     }
 
     @PostMapping("/{roomId}/members")
-    public void joinRoom(@PathVariable Long roomId, @AuthenticationPrincipal AuthUser user) {
-        chatRoomMemberService.joinRoom(roomId, user.getUserId(), user.getNickname(), user.getUserRole());
+    public Mono<Void> joinRoom(@PathVariable Long roomId, @AuthenticationPrincipal AuthUser user) {
+        return Mono.fromRunnable(() -> chatRoomMemberService.joinRoom(roomId, user.getUserId(), user.getNickname(), user.getUserRole()))
+                .subscribeOn(blockingScheduler)
+                .then();
     }
 }
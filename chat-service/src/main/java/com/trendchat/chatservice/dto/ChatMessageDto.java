@@ -1,10 +1,13 @@
 package com.trendchat.chatservice.dto;
 
 import java.io.Serializable;
+import java.time.LocalDateTime;
 
 public record ChatMessageDto(
+        Long id,
         Long roomId,
         String senderId,
         String senderNickname,
-        String content
+        String content,
+        LocalDateTime timestamp
 ) implements Serializable {}
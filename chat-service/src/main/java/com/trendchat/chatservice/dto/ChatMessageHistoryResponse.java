@@ -0,0 +1,13 @@
+package com.trendchat.chatservice.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+// messages는 항상 오래된 순(ID 오름차순), hasMore는 요청 방향으로 더 불러올 메시지가 있는지 여부
+@Builder
+public record ChatMessageHistoryResponse(
+        List<ChatMessageResponse> messages,
+        boolean hasMore
+) {
+}
@@ -1,10 +1,13 @@
 package com.trendchat.chatservice.dto;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Builder;
 
 import java.time.LocalDateTime;
 @Builder
 public record ChatMessageResponse(
+    // 64비트 Snowflake ID → JS Number 정밀도 손실 방지를 위해 문자열로 직렬화
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
     Long id,
     Long roomId,
     String senderId,
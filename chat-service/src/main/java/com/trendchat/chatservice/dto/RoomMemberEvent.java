@@ -0,0 +1,10 @@
+package com.trendchat.chatservice.dto;
+
+/**
+ * 채팅방 멤버 변경을 모든 인스턴스에 알리는 Redis Pub/Sub 이벤트입니다.
+ */
+public record RoomMemberEvent(
+        Long roomId,
+        String userId
+) {
+}
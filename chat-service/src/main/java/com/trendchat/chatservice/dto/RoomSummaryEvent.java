@@ -8,6 +8,7 @@ import java.time.LocalDateTime;
 public record RoomSummaryEvent(
         Long roomId,
         String type,
-        LocalDateTime timestamp
+        LocalDateTime timestamp,
+        int count // 병합 구간 동안 도착한 새 메시지 수
 ) {
 }
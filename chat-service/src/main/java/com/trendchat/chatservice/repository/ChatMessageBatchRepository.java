@@ -0,0 +1,76 @@
+package com.trendchat.chatservice.repository;
+
+import com.trendchat.chatservice.entity.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * {@link ChatMessage}를 JDBC 배치 INSERT로 저장하는 레포지토리입니다.
+ * <p>
+ * 파티션 소비자가 모은 메시지를 한 번의 배치로 저장하며, {@code ChatRoom}을 조회하지 않고 {@code room_id}를 직접 기록합니다. MySQL
+ * 드라이버의 {@code rewriteBatchedStatements=true} 설정 시 하나의 multi-row INSERT로 전송됩니다.
+ * </p>
+ * <p>
+ * ID는 애플리케이션에서 미리 부여되므로, 재전달된 메시지는 {@code ON DUPLICATE KEY UPDATE id = id}로 중복 저장되지 않습니다.
+ * {@code INSERT IGNORE}와 달리 중복 키 이외의 오류(잘림, NULL 제약 위반 등)는 경고로 바뀌지 않고 그대로 실패합니다.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageBatchRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO chat_message (id, room_id, sender, sender_nickname, content, timestamp)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE id = id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 메시지들을 배치로 저장합니다. 이미 저장된 ID는 무시합니다.
+     *
+     * @param messages 저장할 메시지 행 목록
+     */
+    public void insertAll(List<Row> messages) {
+        jdbcTemplate.batchUpdate(
+                INSERT_SQL,
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Row row = messages.get(i);
+                        ps.setLong(1, row.id());
+                        ps.setLong(2, row.roomId());
+                        ps.setString(3, row.sender());
+                        ps.setString(4, row.senderNickname());
+                        ps.setString(5, row.content());
+                        ps.setTimestamp(6, Timestamp.valueOf(row.timestamp()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return messages.size();
+                    }
+                }
+        );
+    }
+
+    // chat_message 한 행
+    public record Row(
+            Long id,
+            Long roomId,
+            String sender,
+            String senderNickname,
+            String content,
+            LocalDateTime timestamp
+    ) {
+    }
+}
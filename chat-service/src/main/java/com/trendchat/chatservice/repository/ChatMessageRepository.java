@@ -1,12 +1,16 @@
 package com.trendchat.chatservice.repository;
 
 import com.trendchat.chatservice.entity.ChatMessage;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
-    List<ChatMessage> findByChatRoomIdOrderByTimestampAsc(Long roomId);
+    // (room_id, id) 인덱스 기반 keyset 페이지네이션
+    List<ChatMessage> findByChatRoomIdOrderByIdDesc(Long roomId, Limit limit);
+    List<ChatMessage> findByChatRoomIdAndIdLessThanOrderByIdDesc(Long roomId, Long before, Limit limit);
+    List<ChatMessage> findByChatRoomIdAndIdGreaterThanOrderByIdAsc(Long roomId, Long after, Limit limit);
     int countByChatRoomIdAndTimestampAfter(Long roomId, LocalDateTime timestamp);
 }
@@ -5,42 +5,17 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     boolean existsByTitle(String title);
 
-    @Query("""
-    SELECT DISTINCT r FROM ChatRoom r
-    LEFT JOIN FETCH r.messages
-    WHERE r.id = :roomId
-""")
-    Optional<ChatRoom> findByIdWithMessages(@Param("roomId") Long roomId);
-
-    @Query("""
-    SELECT DISTINCT r FROM ChatRoom r
-    LEFT JOIN FETCH r.messages
-    WHERE r.title = :title
-""")
-    Optional<ChatRoom> findByTitleWithMessages(@Param("title") String title);
-
     Optional<ChatRoom> findByTitle(String title);
 
     @Query("SELECT r.id FROM ChatRoom r")
     List<Long> findAllRoomIds();
 
-    @Query("""
-        SELECT m.chatRoom.id, COUNT(m)
-        FROM ChatMessage m
-        WHERE m.timestamp > :after
-        GROUP BY m.chatRoom.id
-        ORDER BY COUNT(m) DESC
-        LIMIT 6
-    """)
-    List<Object[]> findTop6ActiveRooms(@Param("after") LocalDateTime after);
-
     @Query("SELECT DISTINCT c.chatRoom.id FROM ChatRoomMember c WHERE c.userId = :userId")
     List<Long> findRoomIdsByUserId(String userId);
 
@@ -52,7 +27,11 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 """)
     List<Object[]> countByRoomIds(@Param("roomIds") List<Long> roomIds);
 
-
-
-
+    // 참여자가 없는 채팅방도 0으로 포함
+    @Query("""
+    SELECT r.id, COUNT(m)
+    FROM ChatRoom r LEFT JOIN ChatRoomMember m ON m.chatRoom = r
+    GROUP BY r.id
+""")
+    List<Object[]> countMembersGroupByRoom();
 }
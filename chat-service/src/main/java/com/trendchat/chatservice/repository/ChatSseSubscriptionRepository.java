@@ -0,0 +1,111 @@
+package com.trendchat.chatservice.repository;
+
+import com.trendchat.chatservice.config.SseProperties;
+import com.trendchat.chatservice.util.SseConnection;
+import com.trendchat.chatservice.util.SseConnectionRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 채팅 SSE 연결을 채팅방 기준으로 색인하여 관리하는 인메모리 저장소입니다.
+ * <p>
+ * 유저별 여러 {@link SseConnection}을 {@link SseConnectionRegistry}로 관리하고, 채팅방 ID → 구독 연결 집합 색인을 유지합니다. 메시지
+ * 전파 시 해당 채팅방을 구독 중인 연결만 조회하므로, 전파 비용이 노드 전체 연결 수가 아닌 채팅방 구독 연결 수에 비례합니다.
+ * </p>
+ * <p>
+ * 연결에는 메시지당 한 번 인코딩된 SSE 프레임({@link com.trendchat.chatservice.util.SseFrames})이 전달됩니다.
+ * </p>
+ */
+@Repository
+public class ChatSseSubscriptionRepository {
+
+    // 유저 ID → SSE 연결 목록
+    private final SseConnectionRegistry<byte[]> registry;
+    // 채팅방 ID → 구독 연결
+    private final Map<Long, Set<SseConnection<byte[]>>> roomSubscribers = new ConcurrentHashMap<>();
+    // 연결 → 구독 채팅방 ID (연결 종료 시 색인 정리용)
+    private final Map<SseConnection<byte[]>, Set<Long>> connectionRooms = new ConcurrentHashMap<>();
+
+    public ChatSseSubscriptionRepository(SseProperties sseProperties, MeterRegistry meterRegistry) {
+        this.registry = new SseConnectionRegistry<>("chat", sseProperties.getMaxConnectionsPerUser(), meterRegistry);
+    }
+
+    /**
+     * SSE 연결을 등록하고, 전달받은 채팅방들을 구독 대상으로 색인합니다.
+     *
+     * @param connection 등록할 연결
+     * @param roomIds    구독할 채팅방 ID 목록
+     */
+    public void register(SseConnection<byte[]> connection, Collection<Long> roomIds) {
+        connectionRooms.put(connection, ConcurrentHashMap.newKeySet());
+        roomIds.forEach(roomId -> index(connection, roomId));
+        registry.register(connection);
+    }
+
+    /**
+     * 유저의 모든 활성 연결에 구독 채팅방을 추가합니다. 연결이 없는 유저는 무시합니다.
+     *
+     * @param userId 유저 ID
+     * @param roomId 추가할 채팅방 ID
+     */
+    public void addRoom(String userId, Long roomId) {
+        registry.getConnections(userId).forEach(connection -> index(connection, roomId));
+    }
+
+    /**
+     * 연결과 채팅방 색인을 제거합니다. 같은 유저의 다른 연결에는 영향을 주지 않습니다.
+     *
+     * @param connection 종료된 연결
+     */
+    public void remove(SseConnection<byte[]> connection) {
+        registry.remove(connection);
+        Set<Long> rooms = connectionRooms.remove(connection);
+        if (rooms == null) {
+            return;
+        }
+        for (Long roomId : rooms) {
+            roomSubscribers.computeIfPresent(roomId, (key, connections) -> {
+                connections.remove(connection);
+                return connections.isEmpty() ? null : connections;
+            });
+        }
+    }
+
+    /**
+     * 채팅방을 구독 중인 연결들을 반환합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @return 구독 연결 목록
+     */
+    public List<SseConnection<byte[]>> getSinks(Long roomId) {
+        Set<SseConnection<byte[]>> connections = roomSubscribers.get(roomId);
+        if (connections == null) {
+            return List.of();
+        }
+        return List.copyOf(connections);
+    }
+
+    /**
+     * 이 인스턴스의 모든 채팅 SSE 연결에 작업을 수행합니다.
+     */
+    public void forEachConnection(Consumer<SseConnection<byte[]>> action) {
+        registry.forEach(action);
+    }
+
+    private void index(SseConnection<byte[]> connection, Long roomId) {
+        Set<Long> rooms = connectionRooms.get(connection);
+        if (rooms == null) {
+            // 이미 종료된 연결
+            return;
+        }
+        rooms.add(roomId);
+        roomSubscribers.computeIfAbsent(roomId, key -> ConcurrentHashMap.newKeySet()).add(connection);
+    }
+}
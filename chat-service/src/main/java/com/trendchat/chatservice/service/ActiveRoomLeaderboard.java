@@ -0,0 +1,147 @@
+package com.trendchat.chatservice.service;
+
+import com.trendchat.chatservice.dto.ChatMessageDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 시간 단위 Redis Sorted Set으로 채팅방별 메시지 수를 누적하여, 최근 N시간 동안 가장 활발한 채팅방 순위를 제공합니다.
+ * <p>
+ * 요청마다 최근 24시간 메시지를 {@code GROUP BY}하던 조회를 대체합니다. 파티션 소비자가 배치 저장 시 시간 버킷에 {@code ZINCRBY}하고,
+ * 조회 시 최근 버킷들을 {@code ZUNIONSTORE}로 합친 순위를 조회 구간별로 짧게 로컬 캐시합니다.
+ * </p>
+ *
+ * <h3>Redis 저장 구조</h3>
+ * <pre>{@code
+ * Key: chat:active:{yyyyMMddHH}    (ZSET roomId → 해당 시간 메시지 수, TTL 최대 조회 구간 + 1시간)
+ * Key: chat:active:union:{hours}   (ZSET 최근 hours개 버킷 합산 결과)
+ * }</pre>
+ *
+ * <p>조회 구간은 시간 단위로 정렬되며, 현재 시간 버킷(진행 중)과 이전 {@code hours - 1}개 버킷을 합산합니다.</p>
+ */
+@Slf4j
+@Component
+public class ActiveRoomLeaderboard {
+
+    public static final int MAX_LIMIT = 50;
+    public static final int MAX_HOURS = 168;
+
+    private static final String BUCKET_PREFIX = "chat:active:";
+    private static final String UNION_PREFIX = "chat:active:union:";
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final Duration BUCKET_TTL = Duration.ofHours(MAX_HOURS + 1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long rankingTtlMillis;
+
+    // 조회 구간(시간) → 상위 MAX_LIMIT개 채팅방 순위
+    private final Map<Integer, Ranking> rankings = new ConcurrentHashMap<>();
+
+    public ActiveRoomLeaderboard(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${chat.leaderboard.ranking-ttl:5s}") Duration rankingTtl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.rankingTtlMillis = rankingTtl.toMillis();
+    }
+
+    /**
+     * 저장된 메시지 배치를 시간 버킷에 채팅방별로 누적합니다.
+     *
+     * @param messages 저장된 메시지 배치
+     * @throws DataAccessException Redis 갱신 실패 시 (호출자가 집계하며 배치는 재전달하지 않음)
+     */
+    public void recordMessages(List<ChatMessageDto> messages) {
+        Map<String, Map<Long, Long>> counts = new LinkedHashMap<>();
+        for (ChatMessageDto message : messages) {
+            counts.computeIfAbsent(bucketKey(message.timestamp()), key -> new HashMap<>())
+                    .merge(message.roomId(), 1L, Long::sum);
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            counts.forEach((key, byRoom) -> {
+                byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+                byRoom.forEach((roomId, count) -> connection.zSetCommands()
+                        .zIncrBy(rawKey, count, String.valueOf(roomId).getBytes(StandardCharsets.UTF_8)));
+                connection.keyCommands().expire(rawKey, BUCKET_TTL.toSeconds());
+            });
+            return null;
+        });
+    }
+
+    /**
+     * 최근 {@code hours}시간 동안 메시지가 많은 순으로 채팅방 ID를 반환합니다.
+     *
+     * @param limit 반환할 채팅방 수 (1 ~ {@value #MAX_LIMIT})
+     * @param hours 조회 구간 (1 ~ {@value #MAX_HOURS}시간)
+     * @return 채팅방 ID 목록 (메시지 수 내림차순)
+     */
+    public List<Long> topRooms(int limit, int hours) {
+        int window = Math.max(1, Math.min(hours, MAX_HOURS));
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        Ranking ranking = rankings.get(window);
+        if (ranking == null || System.currentTimeMillis() - ranking.loadedAt() >= rankingTtlMillis) {
+            ranking = refresh(window, ranking);
+        }
+        List<Long> roomIds = ranking.roomIds();
+        return roomIds.subList(0, Math.min(size, roomIds.size()));
+    }
+
+    // 같은 구간의 동시 갱신은 한 번만 수행
+    private Ranking refresh(int window, Ranking previous) {
+        return rankings.compute(window, (key, current) -> {
+            if (current != null && current != previous) {
+                return current;
+            }
+            try {
+                return new Ranking(load(window), System.currentTimeMillis());
+            } catch (DataAccessException e) {
+                log.warn("Active room leaderboard refresh failed: hours={}", window, e);
+                return current != null ? current : new Ranking(List.of(), System.currentTimeMillis());
+            }
+        });
+    }
+
+    private List<Long> load(int window) {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> otherKeys = new ArrayList<>(window - 1);
+        for (int i = 1; i < window; i++) {
+            otherKeys.add(bucketKey(now.minusHours(i)));
+        }
+
+        String unionKey = UNION_PREFIX + window;
+        redisTemplate.opsForZSet().unionAndStore(bucketKey(now), otherKeys, unionKey);
+        redisTemplate.expire(unionKey, Duration.ofMillis(rankingTtlMillis * 2));
+
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(unionKey, 0, MAX_LIMIT - 1);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    private String bucketKey(LocalDateTime time) {
+        return BUCKET_PREFIX + time.truncatedTo(ChronoUnit.HOURS).format(BUCKET_FORMAT);
+    }
+
+    private record Ranking(List<Long> roomIds, long loadedAt) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.trendchat.chatservice.service;
+
+import com.trendchat.chatservice.dto.ChatMessageResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ChatBroadcastConsumer {
+
+    private final ChatSseService chatSseService;
+
+    /**
+     *  인스턴스 전용 전파 Queue로부터 메시지 수신 시 자동 실행되는 메서드
+     *  - 발행된 메시지를 모든 인스턴스가 동일하게 수신하고,
+     *    (저장과 병렬로 전파되므로 아직 DB에 저장되지 않은 메시지일 수 있음)
+     *  - 이 인스턴스에 연결된 SSE 구독자에게 전송함
+     */
+    @RabbitListener(queues = "#{chatBroadcastQueue.name}")
+    public void receive(ChatMessageResponse message) {
+        chatSseService.broadcast(message);
+    }
+}
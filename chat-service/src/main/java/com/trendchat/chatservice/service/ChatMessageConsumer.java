@@ -1,60 +1,81 @@
 package com.trendchat.chatservice.service;
 
-import com.trendchat.chatservice.config.RabbitMQConfig;
 import com.trendchat.chatservice.dto.ChatMessageDto;
-import com.trendchat.chatservice.dto.ChatMessageResponse;
-import com.trendchat.chatservice.entity.ChatMessage;
-import com.trendchat.chatservice.entity.ChatRoom;
-import lombok.RequiredArgsConstructor;
-import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class ChatMessageConsumer {
 
-    private final ChatSseService chatSseService;
     private final ChatService chatService;
-    private final ChatRoomService chatRoomService;
+    private final RecentMessageBuffer recentMessageBuffer;
+    private final ChatRoomStatsEngine chatRoomStatsEngine;
+    private final ActiveRoomLeaderboard activeRoomLeaderboard;
+    private final RoomSummaryCoalescer roomSummaryCoalescer;
+
+    private final Counter recentBufferFailures;
+    private final Counter statsFailures;
+    private final Counter leaderboardFailures;
+    private final Counter summaryFailures;
+
+    public ChatMessageConsumer(
+            ChatService chatService,
+            RecentMessageBuffer recentMessageBuffer,
+            ChatRoomStatsEngine chatRoomStatsEngine,
+            ActiveRoomLeaderboard activeRoomLeaderboard,
+            RoomSummaryCoalescer roomSummaryCoalescer,
+            MeterRegistry meterRegistry
+    ) {
+        this.chatService = chatService;
+        this.recentMessageBuffer = recentMessageBuffer;
+        this.chatRoomStatsEngine = chatRoomStatsEngine;
+        this.activeRoomLeaderboard = activeRoomLeaderboard;
+        this.roomSummaryCoalescer = roomSummaryCoalescer;
+        this.recentBufferFailures = failureCounter(meterRegistry, "recent-buffer");
+        this.statsFailures = failureCounter(meterRegistry, "stats");
+        this.leaderboardFailures = failureCounter(meterRegistry, "leaderboard");
+        this.summaryFailures = failureCounter(meterRegistry, "summary");
+    }
 
     /**
-     *  RabbitMQ로부터 메시지 수신 시 자동 실행되는 메서드
-     *  - MQ에서 ChatMessageDto를 받아서,
-     *  - DB에 저장하고,
-     *  - 모든 SSE 구독자에게 메시지를 전송함
+     *  RabbitMQ 파티션 Queue로부터 메시지 배치 수신 시 자동 실행되는 메서드 (ChatPartitionListenerConfig에서 파티션별로 등록)
+     *  - MQ에서 ChatMessageDto 배치를 받아서,
+     *  - 한 번의 JDBC 배치 INSERT로 DB에 저장하고 (커밋 후 반환되어야 RabbitMQ ack),
+     *  - 채팅방별 최근 메시지 버퍼(Redis)에 기록하고,
+     *  - 채팅방 통계(최근 30분 메시지 수)와 활발한 채팅방 순위를 갱신하고,
+     *  - 새 메시지 알림(NEW)을 채팅방별로 병합 대기열에 추가함
+     *  - SSE 전파는 발행 시점(ChatServiceImpl.handleMessage)에 저장과 병렬로 수행됨
+     *  - 저장 이후 단계는 실패해도 배치를 재전달하지 않음 (이미 커밋된 배치를 다시 처리하면 통계가 중복 집계됨)
+     *    → 실패는 chat.consumer.post_commit.failures{step}으로 집계
      */
-    @RabbitListener(queues = RabbitMQConfig.CHAT_QUEUE)
-    @Transactional
-    public void receive(ChatMessageDto dto) {
-        //채팅방 조회
-        ChatRoom room = chatRoomService.getChatRoomById(dto.roomId());
-
-        //ChatMessage 엔티티 생성 및 DB 저장
-        ChatMessage message = ChatMessage.builder()
-                .chatRoom(room)
-                .sender(dto.senderId())
-                .senderNickname(dto.senderNickname())
-                .content(dto.content())
-                .timestamp(LocalDateTime.now())
-                .build();
-
-        chatService.saveMessage(message);
-
-        //SSE 클라이언트에게 보낼 응답 객체 생성
-        ChatMessageResponse response = new ChatMessageResponse(
-                message.getId(),
-                dto.roomId(),
-                dto.senderId(),
-                dto.senderNickname(),
-                message.getContent(),
-                message.getTimestamp(),
-                false // 기본값: SSE 구독자 기준 isMine은 프론트에서 판단
-        );
-
-        //실시간으로 모든 구독자에게 메시지 전송
-        chatSseService.broadcast(response);
+    public void receive(List<ChatMessageDto> messages) {
+        chatService.saveMessages(messages);
+        bestEffort(recentBufferFailures, recentMessageBuffer::append, messages);
+        bestEffort(statsFailures, chatRoomStatsEngine::recordMessages, messages);
+        bestEffort(leaderboardFailures, activeRoomLeaderboard::recordMessages, messages);
+        bestEffort(summaryFailures, roomSummaryCoalescer::record, messages);
+    }
+
+    private void bestEffort(Counter failures, Consumer<List<ChatMessageDto>> action, List<ChatMessageDto> messages) {
+        try {
+            action.accept(messages);
+        } catch (Exception e) {
+            log.warn("Post-commit step {} failed for {} messages: {}",
+                    failures.getId().getTag("step"), messages.size(), e.getMessage());
+            failures.increment();
+        }
+    }
+
+    private static Counter failureCounter(MeterRegistry meterRegistry, String step) {
+        return Counter.builder("chat.consumer.post_commit.failures")
+                .description("저장 이후 Redis 갱신에 실패한 배치 수")
+                .tag("step", step)
+                .register(meterRegistry);
     }
 }
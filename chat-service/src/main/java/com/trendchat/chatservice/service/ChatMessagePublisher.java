@@ -2,6 +2,8 @@ package com.trendchat.chatservice.service;
 
 import com.trendchat.chatservice.config.RabbitMQConfig;
 import com.trendchat.chatservice.dto.ChatMessageDto;
+import com.trendchat.chatservice.dto.ChatMessageResponse;
+import com.trendchat.chatservice.util.ChatPartitioner;
 import lombok.RequiredArgsConstructor;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
@@ -11,12 +13,19 @@ import org.springframework.stereotype.Component;
 public class ChatMessagePublisher {
 
     private final RabbitTemplate rabbitTemplate; // RabbitMQ를 통한 메시지 전송을 위한 템플릿
+    private final ChatPartitioner chatPartitioner;
 
+    // 채팅방 ID 기준 파티션으로 라우팅 → 같은 채팅방 메시지는 같은 Queue에서 순서대로 처리됨
     public void send(ChatMessageDto message) {
         rabbitTemplate.convertAndSend(
                 RabbitMQConfig.CHAT_EXCHANGE,
-                RabbitMQConfig.CHAT_ROUTING_KEY,
+                RabbitMQConfig.partitionRoutingKey(chatPartitioner.partitionOf(message.roomId())),
                 message
         );
     }
+
+    // 발행된 메시지를 모든 인스턴스의 SSE 구독자에게 전파 (저장 완료를 기다리지 않으므로 구독자가 저장 전에 받을 수 있음)
+    public void broadcast(ChatMessageResponse message) {
+        rabbitTemplate.convertAndSend(RabbitMQConfig.CHAT_BROADCAST_EXCHANGE, "", message);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,146 @@
+package com.trendchat.chatservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.trendchat.chatservice.repository.ChatRoomMemberRepository;
+import com.trendchat.chatservice.repository.ChatRoomRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메시지 전송 경로의 채팅방 존재 여부·멤버 여부 확인 결과와, 알림 전파용 채팅방별 멤버 ID 목록을 보관하는 인스턴스 로컬 캐시입니다.
+ * <p>
+ * 채팅방과 멤버는 삭제되지 않으므로 긍정 결과는 TTL 동안 그대로 유효합니다. 멤버가 아니라는 부정 결과는
+ * {@link ChatRoomMemberServiceImpl#joinRoom} 커밋 이후 Redis Pub/Sub({@code room-member.joined})으로 모든 인스턴스에서
+ * 무효화되며, 같은 이벤트로 캐시된 멤버 ID 목록에 새 멤버가 추가됩니다. 이벤트가 유실되거나 가입 직전에 시작된 조회가 무효화 이후에 끝나는
+ * 경우에도 방금 가입한 유저가 오래 거부되지 않도록, 부정 결과는 {@code chat.access-cache.negative-ttl}(기본 5초) 동안만 보관합니다.
+ * </p>
+ *
+ * <p>적중률은 {@code cache.*{cache=chat.room.exists|chat.room.member|chat.room.member-ids}} 메트릭으로 노출합니다.</p>
+ */
+@Component
+public class ChatRoomAccessCache {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final Cache<Long, Boolean> roomExists;
+    private final Cache<MemberKey, Boolean> membership;
+    private final Cache<Long, Set<String>> memberIds;
+
+    public ChatRoomAccessCache(
+            ChatRoomRepository chatRoomRepository,
+            ChatRoomMemberRepository chatRoomMemberRepository,
+            MeterRegistry meterRegistry,
+            @Value("${chat.access-cache.ttl:10m}") Duration ttl,
+            @Value("${chat.access-cache.negative-ttl:5s}") Duration negativeTtl,
+            @Value("${chat.access-cache.max-size:100000}") long maxSize
+    ) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.chatRoomMemberRepository = chatRoomMemberRepository;
+        this.roomExists = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.membership = Caffeine.newBuilder()
+                .expireAfter(new MembershipExpiry(ttl.toNanos(), negativeTtl.toNanos()))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.memberIds = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, roomExists, "chat.room.exists");
+        CaffeineCacheMetrics.monitor(meterRegistry, membership, "chat.room.member");
+        CaffeineCacheMetrics.monitor(meterRegistry, memberIds, "chat.room.member-ids");
+    }
+
+    /**
+     * 채팅방 존재 여부를 반환합니다. 존재하지 않는 채팅방은 이후 생성될 수 있으므로 캐시하지 않습니다.
+     *
+     * @param roomId 채팅방 ID
+     * @return 존재 여부
+     */
+    public boolean roomExists(Long roomId) {
+        if (roomExists.getIfPresent(roomId) != null) {
+            return true;
+        }
+        boolean exists = chatRoomRepository.existsById(roomId);
+        if (exists) {
+            roomExists.put(roomId, Boolean.TRUE);
+        }
+        return exists;
+    }
+
+    /**
+     * 유저가 채팅방 멤버인지 반환합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param userId 유저 ID
+     * @return 멤버 여부
+     */
+    public boolean isMember(Long roomId, String userId) {
+        return membership.get(new MemberKey(roomId, userId),
+                key -> chatRoomMemberRepository.existsByChatRoomIdAndUserId(key.roomId(), key.userId()));
+    }
+
+    /**
+     * 채팅방 멤버 ID 목록을 반환합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @return 멤버 ID 집합 (읽기 전용으로 사용)
+     */
+    public Set<String> memberIds(Long roomId) {
+        return memberIds.get(roomId, key -> {
+            Set<String> ids = ConcurrentHashMap.newKeySet();
+            ids.addAll(chatRoomMemberRepository.findUserIdsByRoomId(key));
+            return ids;
+        });
+    }
+
+    /**
+     * 멤버 가입 이벤트 수신 시 멤버십 캐시를 무효화하고, 캐시된 멤버 ID 목록에 새 멤버를 추가합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param userId 유저 ID
+     */
+    public void memberJoined(Long roomId, String userId) {
+        membership.invalidate(new MemberKey(roomId, userId));
+        // 로딩 중인 항목은 로딩 완료 후 반영됨
+        memberIds.asMap().computeIfPresent(roomId, (key, ids) -> {
+            ids.add(userId);
+            return ids;
+        });
+    }
+
+    private record MemberKey(Long roomId, String userId) {
+    }
+
+    // 멤버 여부에 따라 보관 시간을 다르게 적용 (쓰기 기준)
+    private record MembershipExpiry(long ttlNanos, long negativeTtlNanos) implements Expiry<MemberKey, Boolean> {
+
+        @Override
+        public long expireAfterCreate(MemberKey key, Boolean member, long currentTime) {
+            return member ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(MemberKey key, Boolean member, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, member, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(MemberKey key, Boolean member, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
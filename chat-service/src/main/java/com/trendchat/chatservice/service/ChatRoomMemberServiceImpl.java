@@ -1,6 +1,7 @@
 package com.trendchat.chatservice.service;
 
 import com.trendchat.chatservice.dto.ChatRoomMemberDto;
+import com.trendchat.chatservice.dto.RoomMemberEvent;
 import com.trendchat.chatservice.entity.ChatRoom;
 import com.trendchat.chatservice.entity.ChatRoomMember;
 import com.trendchat.chatservice.repository.ChatRoomMemberRepository;
@@ -8,6 +9,9 @@ import com.trendchat.trendchatcommon.enums.UserRole;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
@@ -19,8 +23,11 @@ public class ChatRoomMemberServiceImpl implements ChatRoomMemberService{
 
     private final ChatRoomService chatRoomService;
     private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final RedisPublisher redisPublisher;
+    private final ChatRoomStatsEngine chatRoomStatsEngine;
 
     @Override
+    @Transactional
     public void joinRoom(Long roomId, String userId, String nickname, UserRole userRole) {
         if(chatRoomMemberRepository.existsByChatRoomIdAndUserId(roomId, userId)) return;
         validateSubscription(userRole, userId);
@@ -33,6 +40,15 @@ public class ChatRoomMemberServiceImpl implements ChatRoomMemberService{
                 .build();
 
         chatRoomMemberRepository.save(member);
+        // 커밋 전에 전파하면 다른 인스턴스가 아직 보이지 않는 멤버십을 다시 조회해 부정 결과를 캐시할 수 있으므로 커밋 이후 수행
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                chatRoomStatsEngine.memberJoined(roomId);
+                // 모든 인스턴스에 전파: 멤버십 캐시 무효화 + 연결 중인 SSE 스트림에 새 채팅방 구독 추가
+                redisPublisher.publishMemberJoined(new RoomMemberEvent(roomId, userId));
+            }
+        });
     }
 
     @Override
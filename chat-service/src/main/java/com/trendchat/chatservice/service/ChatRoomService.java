@@ -27,7 +27,7 @@ public interface ChatRoomService {
 
     Map<Long, ChatRoomStatsResponse> getAllRoomStats();
 
-    List<Long> getTop6ActiveRoomIds();
+    List<Long> getTopActiveRoomIds(int limit, int hours);
 
     List<MyRoomResponse> getMyRooms(String userId);
 
@@ -2,11 +2,10 @@ package com.trendchat.chatservice.service;
 
 import com.trendchat.chatservice.dto.*;
 import com.trendchat.chatservice.entity.ChatRoom;
-import com.trendchat.chatservice.repository.ChatMessageRepository;
-import com.trendchat.chatservice.repository.ChatRoomMemberRepository;
 import com.trendchat.chatservice.repository.ChatRoomRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,8 +22,13 @@ import java.util.stream.Collectors;
 public class ChatRoomServiceImpl implements ChatRoomService {
 
     private final ChatRoomRepository chatRoomRepository;
-    private final ChatRoomMemberRepository chatRoomMemberRepository;
-    private final ChatMessageRepository chatMessageRepository;
+    private final ChatRoomStatsEngine chatRoomStatsEngine;
+    private final ActiveRoomLeaderboard activeRoomLeaderboard;
+    private final ChatService chatService;
+
+    // 채팅방 상세 응답에 포함할 최근 메시지 수
+    @Value("${chat.room.recent-message-size:50}")
+    private int recentMessageSize;
 
     @Override
     @Transactional
@@ -34,11 +38,12 @@ public class ChatRoomServiceImpl implements ChatRoomService {
         }
 
         try {
-            chatRoomRepository.save(ChatRoom.builder()
+            ChatRoom chatRoom = chatRoomRepository.save(ChatRoom.builder()
                     .title(title)
                     .description(description)
                     .createdAt(LocalDateTime.now())
                     .build());
+            chatRoomStatsEngine.roomCreated(chatRoom.getId());
 
             return true;
         } catch (DataIntegrityViolationException e) {
@@ -63,9 +68,9 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 
     @Override
     public ChatRoomResponse getChatRoomByIdResponse(Long roomId, String currentUserId) {
-        ChatRoom chatRoom = chatRoomRepository.findByIdWithMessages(roomId)
+        ChatRoom chatRoom = chatRoomRepository.findById(roomId)
                 .orElseThrow(() -> new IllegalArgumentException("Room not found"));
-        return toChatRoomResponse(chatRoom, currentUserId);
+        return toChatRoomResponse(chatRoom, recentMessages(chatRoom.getId(), currentUserId));
     }
 
     @Override
@@ -80,8 +85,8 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 
     @Override
     public Optional<ChatRoomResponse> findResponseByTitle(String title, String currentUserId) {
-        return chatRoomRepository.findByTitleWithMessages(title)
-                .map(room -> toChatRoomResponse(room, currentUserId));
+        return chatRoomRepository.findByTitle(title)
+                .map(room -> toChatRoomResponse(room, recentMessages(room.getId(), currentUserId)));
     }
 
 
@@ -97,41 +102,26 @@ public class ChatRoomServiceImpl implements ChatRoomService {
                 .description(title + "에 대한 자동 생성된 채팅방")
                 .createdAt(LocalDateTime.now())
                 .build());
+        chatRoomStatsEngine.roomCreated(chatRoom.getId());
 
-        return toChatRoomResponse(chatRoom, currentUserId);
+        return toChatRoomResponse(chatRoom, List.of());
     }
 
+    // 채팅방별 COUNT 쿼리 대신 Redis 증분 집계 스냅샷에서 조회
     @Override
     public Map<Long, ChatRoomStatsResponse> getRoomStats(List<Long> roomIds) {
-        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(30);
-
-        return roomIds.stream().collect(Collectors.toMap(
-                roomId -> roomId,
-                roomId -> {
-                    int members = chatRoomMemberRepository.countByChatRoomId(roomId);
-                    int messages = chatMessageRepository.countByChatRoomIdAndTimestampAfter(roomId, cutoff);
-                    return ChatRoomStatsResponse.builder()
-                            .participants(members)
-                            .messageCount(messages)
-                            .build();
-                }
-        ));
+        return chatRoomStatsEngine.getStats(roomIds);
     }
 
     @Override
     public Map<Long, ChatRoomStatsResponse> getAllRoomStats() {
-        List<Long> roomIds = chatRoomRepository.findAllRoomIds();
-        return getRoomStats(roomIds);
+        return chatRoomStatsEngine.getAllStats();
     }
 
+    // 최근 메시지 GROUP BY 대신 시간 버킷 순위표에서 조회
     @Override
-    public List<Long> getTop6ActiveRoomIds() {
-        LocalDateTime flag = LocalDateTime.now().minusMinutes(1440);
-        List<Object[]> topRooms = chatRoomRepository.findTop6ActiveRooms(flag);
-
-        return topRooms.stream()
-                .map(row -> (Long) row[0])
-                .collect(Collectors.toList());
+    public List<Long> getTopActiveRoomIds(int limit, int hours) {
+        return activeRoomLeaderboard.topRooms(limit, hours);
     }
 
     @Override
@@ -159,19 +149,12 @@ public class ChatRoomServiceImpl implements ChatRoomService {
         return (long) roomIds.size();
     }
 
-    private ChatRoomResponse toChatRoomResponse(ChatRoom chatRoom, String currentUserId) {
-        List<ChatMessageResponse> messages = chatRoom.getMessages().stream()
-                .map(msg -> new ChatMessageResponse(
-                        msg.getId(),
-                        msg.getChatRoom().getId(),
-                        msg.getSender(),
-                        msg.getSenderNickname(),
-                        msg.getContent(),
-                        msg.getTimestamp(),
-                        msg.getSender().equals(currentUserId)
-                ))
-                .toList();
+    // 전체 메시지 대신 최근 메시지 일부만 조회 (이전 메시지는 /api/v1/chat/history 커서 조회)
+    private List<ChatMessageResponse> recentMessages(Long roomId, String currentUserId) {
+        return chatService.getMessageHistory(roomId, currentUserId, null, null, recentMessageSize).messages();
+    }
 
+    private ChatRoomResponse toChatRoomResponse(ChatRoom chatRoom, List<ChatMessageResponse> messages) {
         return ChatRoomResponse.builder()
                 .id(chatRoom.getId())
                 .title(chatRoom.getTitle())
@@ -181,4 +164,3 @@ public class ChatRoomServiceImpl implements ChatRoomService {
                 .build();
     }
 }
-
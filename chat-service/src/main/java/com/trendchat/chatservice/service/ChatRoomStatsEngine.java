@@ -0,0 +1,249 @@
+package com.trendchat.chatservice.service;
+
+import com.trendchat.chatservice.dto.ChatMessageDto;
+import com.trendchat.chatservice.dto.ChatRoomStatsResponse;
+import com.trendchat.chatservice.repository.ChatRoomRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅방별 참여자 수와 최근 30분 메시지 수를 Redis에 증분 집계하고, 인스턴스 로컬 스냅샷으로 제공하는 통계 엔진입니다.
+ * <p>
+ * 로비의 통계 폴링이 채팅방 수만큼 {@code COUNT} 쿼리를 실행하던 것을 대체합니다. 메시지 수는 파티션 소비자가 배치 저장 시, 참여자 수는
+ * 채팅방 가입 시 증가시키며, 조회는 짧은 주기로 갱신되는 스냅샷에서 메모리 읽기만으로 응답합니다.
+ * </p>
+ *
+ * <h3>Redis 저장 구조</h3>
+ * <pre>{@code
+ * Key: chat:stats:participants        (HASH roomId → 참여자 수, 모든 채팅방 포함)
+ * Key: chat:stats:msg:{yyyyMMddHHmm}  (HASH roomId → 해당 분의 메시지 수, TTL 31분)
+ * }</pre>
+ *
+ * <p>
+ * 참여자 수는 증분 누락·중복에 대비해 {@code chat.stats.reconcile-interval}(기본 10분)마다 DB 집계 한 번으로 덮어씁니다. 메시지 배치가
+ * 재전달되면 해당 분의 메시지 수가 중복 집계될 수 있으며, 최대 30분 안에 창에서 빠집니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ChatRoomStatsEngine {
+
+    private static final String PARTICIPANTS_KEY = "chat:stats:participants";
+    private static final String MESSAGE_BUCKET_PREFIX = "chat:stats:msg:";
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+    private static final int WINDOW_MINUTES = 30;
+    private static final Duration BUCKET_TTL = Duration.ofMinutes(WINDOW_MINUTES + 1);
+
+    // 참여자 수 전체 교체 (DEL + HSET 원자 실행)
+    private static final RedisScript<Long> REPLACE_PARTICIPANTS_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            for i = 1, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            return #ARGV / 2
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ChatRoomRepository chatRoomRepository;
+    private final long snapshotTtlMillis;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), 0L);
+
+    public ChatRoomStatsEngine(
+            RedisTemplate<String, String> redisTemplate,
+            ChatRoomRepository chatRoomRepository,
+            @Value("${chat.stats.snapshot-ttl:2s}") Duration snapshotTtl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.chatRoomRepository = chatRoomRepository;
+        this.snapshotTtlMillis = snapshotTtl.toMillis();
+    }
+
+    /**
+     * 저장된 메시지 배치를 분 단위 버킷에 채팅방별로 집계합니다.
+     *
+     * @param messages 저장된 메시지 배치
+     * @throws DataAccessException Redis 갱신 실패 시 (호출자가 집계하며 배치는 재전달하지 않음)
+     */
+    public void recordMessages(List<ChatMessageDto> messages) {
+        Map<String, Map<Long, Long>> counts = new LinkedHashMap<>();
+        for (ChatMessageDto message : messages) {
+            counts.computeIfAbsent(bucketKey(message.timestamp()), key -> new HashMap<>())
+                    .merge(message.roomId(), 1L, Long::sum);
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            counts.forEach((key, byRoom) -> {
+                byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+                byRoom.forEach((roomId, count) -> connection.hashCommands()
+                        .hIncrBy(rawKey, String.valueOf(roomId).getBytes(StandardCharsets.UTF_8), count));
+                connection.keyCommands().expire(rawKey, BUCKET_TTL.toSeconds());
+            });
+            return null;
+        });
+    }
+
+    /**
+     * 채팅방 가입 시 참여자 수를 1 증가시킵니다.
+     *
+     * @param roomId 채팅방 ID
+     */
+    public void memberJoined(Long roomId) {
+        incrementParticipants(roomId, 1L);
+    }
+
+    /**
+     * 새로 생성된 채팅방을 참여자 0명으로 등록합니다.
+     *
+     * @param roomId 채팅방 ID
+     */
+    public void roomCreated(Long roomId) {
+        incrementParticipants(roomId, 0L);
+    }
+
+    /**
+     * 지정한 채팅방들의 통계를 스냅샷에서 조회합니다. 집계되지 않은 채팅방은 0으로 응답합니다.
+     *
+     * @param roomIds 채팅방 ID 목록
+     * @return 채팅방 ID → 통계
+     */
+    public Map<Long, ChatRoomStatsResponse> getStats(List<Long> roomIds) {
+        Map<Long, ChatRoomStatsResponse> stats = currentSnapshot().stats();
+        Map<Long, ChatRoomStatsResponse> result = new HashMap<>(roomIds.size());
+        for (Long roomId : roomIds) {
+            result.put(roomId, stats.getOrDefault(roomId, ChatRoomStatsResponse.builder().build()));
+        }
+        return result;
+    }
+
+    /**
+     * 모든 채팅방의 통계를 스냅샷에서 조회합니다.
+     *
+     * @return 채팅방 ID → 통계
+     */
+    public Map<Long, ChatRoomStatsResponse> getAllStats() {
+        return currentSnapshot().stats();
+    }
+
+    /**
+     * 기동 시 참여자 수 해시가 없으면 DB 집계로 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(PARTICIPANTS_KEY))) {
+                reconcileParticipants();
+            }
+        } catch (DataAccessException e) {
+            log.warn("Room stats warm-up failed", e);
+        }
+    }
+
+    /**
+     * 참여자 수를 DB 집계 결과로 주기적으로 덮어써 증분 오차를 보정합니다.
+     */
+    @Scheduled(fixedDelayString = "${chat.stats.reconcile-interval:10m}",
+            initialDelayString = "${chat.stats.reconcile-interval:10m}")
+    public void reconcileParticipants() {
+        List<Object[]> rows = chatRoomRepository.countMembersGroupByRoom();
+        List<String> args = new ArrayList<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            args.add(String.valueOf(row[0]));
+            args.add(String.valueOf(row[1]));
+        }
+        redisTemplate.execute(REPLACE_PARTICIPANTS_SCRIPT, List.of(PARTICIPANTS_KEY), args.toArray());
+    }
+
+    private void incrementParticipants(Long roomId, long delta) {
+        try {
+            redisTemplate.opsForHash().increment(PARTICIPANTS_KEY, String.valueOf(roomId), delta);
+        } catch (DataAccessException e) {
+            log.warn("Participant stats update failed: roomId={}", roomId, e);
+        }
+    }
+
+    // 스냅샷이 만료된 경우 한 스레드만 Redis에서 다시 읽음
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (System.currentTimeMillis() - current.loadedAt() < snapshotTtlMillis) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (System.currentTimeMillis() - current.loadedAt() < snapshotTtlMillis) {
+                return current;
+            }
+            try {
+                snapshot = load();
+            } catch (DataAccessException e) {
+                log.warn("Room stats snapshot refresh failed, serving previous snapshot", e);
+            }
+            return snapshot;
+        }
+    }
+
+    private Snapshot load() {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> keys = new ArrayList<>(WINDOW_MINUTES + 1);
+        keys.add(PARTICIPANTS_KEY);
+        for (int i = 0; i < WINDOW_MINUTES; i++) {
+            keys.add(bucketKey(now.minusMinutes(i)));
+        }
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            keys.forEach(key -> connection.hashCommands().hGetAll(key.getBytes(StandardCharsets.UTF_8)));
+            return null;
+        });
+
+        Map<Long, Integer> participants = toCounts(results.get(0));
+        Map<Long, Integer> messageCounts = new HashMap<>();
+        for (int i = 1; i < results.size(); i++) {
+            toCounts(results.get(i)).forEach((roomId, count) -> messageCounts.merge(roomId, count, Integer::sum));
+        }
+
+        Map<Long, ChatRoomStatsResponse> stats = new HashMap<>(participants.size());
+        participants.forEach((roomId, count) -> stats.put(roomId, ChatRoomStatsResponse.builder()
+                .participants(count)
+                .messageCount(messageCounts.getOrDefault(roomId, 0))
+                .build()));
+        return new Snapshot(Map.copyOf(stats), System.currentTimeMillis());
+    }
+
+    private Map<Long, Integer> toCounts(Object hash) {
+        Map<Long, Integer> counts = new HashMap<>();
+        if (hash instanceof Map<?, ?> map) {
+            map.forEach((field, value) -> counts.put(
+                    Long.valueOf(String.valueOf(field)),
+                    Integer.valueOf(String.valueOf(value))
+            ));
+        }
+        return counts;
+    }
+
+    private String bucketKey(LocalDateTime time) {
+        return MESSAGE_BUCKET_PREFIX + time.truncatedTo(ChronoUnit.MINUTES).format(BUCKET_FORMAT);
+    }
+
+    private record Snapshot(Map<Long, ChatRoomStatsResponse> stats, long loadedAt) {
+    }
+}
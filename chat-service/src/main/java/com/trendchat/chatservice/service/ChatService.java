@@ -1,15 +1,15 @@
 package com.trendchat.chatservice.service;
 
+import com.trendchat.chatservice.dto.ChatMessageDto;
+import com.trendchat.chatservice.dto.ChatMessageHistoryResponse;
 import com.trendchat.chatservice.dto.ChatMessageRequest;
-import com.trendchat.chatservice.dto.ChatMessageResponse;
-import com.trendchat.chatservice.entity.ChatMessage;
 
 import java.util.List;
 
 public interface ChatService {
-    // DB에 메시지를 저장
-    ChatMessage saveMessage(ChatMessage chatMessage);
-    // DB에서 메시지 전체 조회(시간대 정렬)
-    List<ChatMessageResponse> getMessageHistory(Long roomId, String userUUID);
+    // DB에 메시지를 배치로 저장 (ChatRoom 조회 없이 JDBC 배치 INSERT)
+    void saveMessages(List<ChatMessageDto> messages);
+    // DB에서 메시지 커서 페이지 조회 (before/after 메시지 ID 기준, 둘 다 없으면 최신 페이지)
+    ChatMessageHistoryResponse getMessageHistory(Long roomId, String userUUID, Long before, Long after, Integer size);
     void handleMessage(ChatMessageRequest messageRequest);
 }
@@ -1,81 +1,152 @@
 package com.trendchat.chatservice.service;
 
 import com.trendchat.chatservice.dto.ChatMessageDto;
+import com.trendchat.chatservice.dto.ChatMessageHistoryResponse;
 import com.trendchat.chatservice.dto.ChatMessageRequest;
 import com.trendchat.chatservice.dto.ChatMessageResponse;
-import com.trendchat.chatservice.dto.RoomSummaryEvent;
 import com.trendchat.chatservice.entity.ChatMessage;
-import com.trendchat.chatservice.entity.ChatRoom;
+import com.trendchat.chatservice.repository.ChatMessageBatchRepository;
 import com.trendchat.chatservice.repository.ChatMessageRepository;
-import com.trendchat.chatservice.repository.ChatRoomMemberRepository;
-import com.trendchat.chatservice.repository.ChatRoomRepository;
+import com.trendchat.chatservice.util.SnowflakeIdGenerator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ChatServiceImpl implements ChatService{
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ChatMessageRepository repository;
-    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessageBatchRepository batchRepository;
     private final ChatMessagePublisher publisher;
-    private final RedisPublisher redisPublisher;
-    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final ChatRoomAccessCache chatRoomAccessCache;
+    private final SnowflakeIdGenerator idGenerator;
+    private final RecentMessageBuffer recentMessageBuffer;
 
     @Override
     @Transactional
-    public ChatMessage saveMessage(ChatMessage message){
-        return repository.save(message);
+    public void saveMessages(List<ChatMessageDto> messages){
+        List<ChatMessageBatchRepository.Row> rows = messages.stream()
+                .map(dto -> new ChatMessageBatchRepository.Row(
+                        dto.id(),
+                        dto.roomId(),
+                        dto.senderId(),
+                        dto.senderNickname(),
+                        dto.content(),
+                        dto.timestamp()
+                ))
+                .toList();
+        batchRepository.insertAll(rows);
     }
 
+    // 버퍼 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
     @Override
-    public List<ChatMessageResponse> getMessageHistory(Long roomId, String userUUID) {
-        return repository.findByChatRoomIdOrderByTimestampAsc(roomId).stream()
-                .map(msg -> new ChatMessageResponse(
-                        msg.getId(),
-                        msg.getChatRoom().getId(),
-                        msg.getSender(),
-                        msg.getSenderNickname(),
-                        msg.getContent(),
-                        msg.getTimestamp(),
-                        msg.getSender().equals(userUUID)
-                ))
-                .toList();
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ChatMessageHistoryResponse getMessageHistory(Long roomId, String userUUID, Long before, Long after, Integer size) {
+        if (before != null && after != null) {
+            throw new IllegalArgumentException("before와 after는 동시에 지정할 수 없습니다.");
+        }
+        int pageSize = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
+        // 최신 페이지는 Redis 최근 메시지 버퍼에서 우선 조회
+        if (before == null && after == null) {
+            Optional<List<ChatMessageResponse>> buffered = recentMessageBuffer.latest(roomId, pageSize, userUUID);
+            if (buffered.isPresent()) {
+                return ChatMessageHistoryResponse.builder()
+                        .messages(buffered.get())
+                        .hasMore(true)
+                        .build();
+            }
+        }
+
+        // 한 건 더 조회하여 다음 페이지 존재 여부 판단
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<ChatMessage> messages;
+        if (after != null) {
+            messages = repository.findByChatRoomIdAndIdGreaterThanOrderByIdAsc(roomId, after, limit);
+        } else if (before != null) {
+            messages = repository.findByChatRoomIdAndIdLessThanOrderByIdDesc(roomId, before, limit);
+        } else {
+            messages = repository.findByChatRoomIdOrderByIdDesc(roomId, limit);
+        }
+
+        boolean hasMore = messages.size() > pageSize;
+        List<ChatMessage> page = new ArrayList<>(hasMore ? messages.subList(0, pageSize) : messages);
+        if (after == null) {
+            // 최신순으로 조회한 페이지를 오래된 순으로 정렬
+            Collections.reverse(page);
+        }
+
+        return ChatMessageHistoryResponse.builder()
+                .messages(page.stream()
+                        .map(msg -> toResponse(msg, userUUID))
+                        .toList())
+                .hasMore(hasMore)
+                .build();
     }
 
+    // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void handleMessage(ChatMessageRequest messageRequest) {
-        // 1. 채팅방 ID로 ChatRoom 엔티티 찾기
-        ChatRoom chatRoom = chatRoomRepository.findById(messageRequest.roomId()).orElseThrow(()-> new IllegalArgumentException("Room not found"));
-        // 2. 채팅방에 멤버가 아닌지 확인
+        // 1. 채팅방 존재 여부 확인 (로컬 캐시 우선)
+        if (!chatRoomAccessCache.roomExists(messageRequest.roomId())) {
+            throw new IllegalArgumentException("Room not found");
+        }
+        // 2. 채팅방에 멤버가 아닌지 확인 (로컬 캐시 우선)
         validateMember(messageRequest.sender(),messageRequest.roomId());
-        // 3. ChatMessage 생성 & 채팅방 연관 설정
+        // 3. ChatMessage 생성 & 채팅방 연관 설정 (ID·시각은 DB INSERT 전에 애플리케이션에서 부여)
         ChatMessageDto messageDto = new ChatMessageDto(
-                chatRoom.getId(),
+                idGenerator.nextId(),
+                messageRequest.roomId(),
                 messageRequest.sender(),
                 messageRequest.senderNickName(),
-                messageRequest.content()
-        );
-        // 4. 메시지 전송 (RabbitMQ → WebFlux 처리)
-        publisher.send(messageDto);
-
-        // 5. NEW 알림용 Redis Publish
-        RoomSummaryEvent event = new RoomSummaryEvent(
-                chatRoom.getId(),
-                "NEW",
+                messageRequest.content(),
                 LocalDateTime.now()
         );
-        redisPublisher.publishRoomMessage(event);
+        // 4. 메시지 전송 (RabbitMQ 파티션 Queue → 배치 저장)
+        publisher.send(messageDto);
+        // 5. 저장과 병렬로 모든 인스턴스의 SSE 구독자에게 전파 (ID가 이미 있으므로 DB 커밋을 기다리지 않음)
+        publisher.broadcast(new ChatMessageResponse(
+                messageDto.id(),
+                messageDto.roomId(),
+                messageDto.senderId(),
+                messageDto.senderNickname(),
+                messageDto.content(),
+                messageDto.timestamp(),
+                false // 기본값: SSE 구독자 기준 isMine은 프론트에서 판단
+        ));
+        // 6. NEW 알림은 저장 후 RoomSummaryCoalescer가 채팅방별로 모아서 발행
     }
     private void validateMember(String userId, Long roomId) throws AccessDeniedException {
-        boolean isMember = chatRoomMemberRepository.existsByChatRoomIdAndUserId(roomId, userId);
+        boolean isMember = chatRoomAccessCache.isMember(roomId, userId);
         if(!isMember){
             throw new AccessDeniedException("해당 채팅방에 멤버가 아닙니다");
         }
     }
+
+    private ChatMessageResponse toResponse(ChatMessage msg, String userUUID) {
+        return new ChatMessageResponse(
+                msg.getId(),
+                msg.getChatRoom().getId(),
+                msg.getSender(),
+                msg.getSenderNickname(),
+                msg.getContent(),
+                msg.getTimestamp(),
+                msg.getSender().equals(userUUID)
+        );
+    }
 }
@@ -1,10 +1,15 @@
 package com.trendchat.chatservice.service;
 
 import com.trendchat.chatservice.dto.ChatMessageResponse;
-import org.springframework.http.codec.ServerSentEvent;
 import reactor.core.publisher.Flux;
 
+import java.util.List;
+
 public interface ChatSseService {
-    Flux<ServerSentEvent<ChatMessageResponse>> subscribe(String userId);
+    // roomIds가 비어 있으면 유저가 참여 중인 채팅방 전체를 구독
+    // 미리 인코딩한 SSE 프레임 스트림, data는 ChatMessageResponse JSON (전파 시 한 번만 인코딩)
+    Flux<byte[]> subscribe(String userId, List<Long> roomIds);
+    // 연결 중인 유저의 구독 채팅방 추가
+    void addRoom(String userId, Long roomId);
     void broadcast(ChatMessageResponse message);
 }
@@ -1,41 +1,109 @@
 package com.trendchat.chatservice.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trendchat.chatservice.config.SseProperties;
 import com.trendchat.chatservice.dto.ChatMessageResponse;
-import lombok.RequiredArgsConstructor;
-import org.springframework.http.codec.ServerSentEvent;
+import com.trendchat.chatservice.repository.ChatRoomRepository;
+import com.trendchat.chatservice.repository.ChatSseSubscriptionRepository;
+import com.trendchat.chatservice.util.SseConnection;
+import com.trendchat.chatservice.util.SseFrames;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.Sinks;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
-import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class ChatSseServiceImpl implements ChatSseService {
-    //유저별 Sink관리
-    private final Map<String, Sinks.Many<ChatMessageResponse>> userSinkMap = new ConcurrentHashMap<>();
+    //채팅방 기준으로 색인된 유저별 Sink 관리
+    private final ChatSseSubscriptionRepository subscriptionRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final SseConnectionFactory sseConnectionFactory;
+    private final SseProperties sseProperties;
+    private final ObjectMapper objectMapper;
+    private final Scheduler blockingScheduler;
+    // 메시지 1건당 전달 대상 연결 수
+    private final DistributionSummary fanout;
+
+    public ChatSseServiceImpl(
+            ChatSseSubscriptionRepository subscriptionRepository,
+            ChatRoomRepository chatRoomRepository,
+            SseConnectionFactory sseConnectionFactory,
+            SseProperties sseProperties,
+            ObjectMapper objectMapper,
+            Scheduler blockingScheduler,
+            MeterRegistry meterRegistry
+    ) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.chatRoomRepository = chatRoomRepository;
+        this.sseConnectionFactory = sseConnectionFactory;
+        this.sseProperties = sseProperties;
+        this.objectMapper = objectMapper;
+        this.blockingScheduler = blockingScheduler;
+        this.fanout = DistributionSummary.builder("chat.sse.broadcast.fanout")
+                .description("메시지 1건당 SSE 전달 대상 연결 수")
+                .register(meterRegistry);
+    }
 
     @Override
-    public Flux<ServerSentEvent<ChatMessageResponse>> subscribe(String userId) {
-        Sinks.Many<ChatMessageResponse> sink = Sinks.many().multicast().onBackpressureBuffer();
-        userSinkMap.put(userId, sink);
-
-        // ping 전송 + 메시지 병합
-        return Flux.merge(
-                sink.asFlux().map(data -> ServerSentEvent.builder(data).build()),
-                Flux.interval(Duration.ofSeconds(5)) // Ping
-                        .map(seq -> ServerSentEvent.<ChatMessageResponse>builder()
-                                .event("ping")
-                                .build())
-        ).doFinally(signal -> {
-            userSinkMap.remove(userId); // 연결 종료 시 정리
+    public Flux<byte[]> subscribe(String userId, List<Long> roomIds) {
+        // 구독 채팅방을 지정하지 않으면 참여 중인 채팅방 전체 구독 (DB 조회는 전용 Scheduler에서 실행)
+        Mono<List<Long>> subscribeRoomIds = (roomIds == null || roomIds.isEmpty())
+                ? Mono.fromCallable(() -> chatRoomRepository.findRoomIdsByUserId(userId)).subscribeOn(blockingScheduler)
+                : Mono.just(roomIds);
+
+        return subscribeRoomIds.flatMapMany(rooms -> {
+            // 송신 버퍼 크기가 제한된 연결 (느린 클라이언트는 chat.sse.overflow-policy에 따라 처리)
+            SseConnection<byte[]> sink = sseConnectionFactory.createEncoded("chat", userId);
+            subscriptionRepository.register(sink, rooms);
+
+            // ping은 연결별 타이머 대신 공유 heartbeat()가 전송
+            return sink.asFlux()
+                    .doFinally(signal -> {
+                        subscriptionRepository.remove(sink); // 연결 종료 시 해당 연결만 정리
+                    });
         });
     }
 
+    @Override
+    public void addRoom(String userId, Long roomId) {
+        subscriptionRepository.addRoom(userId, roomId);
+    }
+
     @Override
     public void broadcast(ChatMessageResponse message) {
-        userSinkMap.values().forEach(sink -> sink.tryEmitNext(message));
+        List<SseConnection<byte[]>> sinks = subscriptionRepository.getSinks(message.roomId());
+        fanout.record(sinks.size());
+        if (sinks.isEmpty()) {
+            return;
+        }
+
+        // 구독자 수와 무관하게 한 번만 직렬화·프레임 인코딩하고, 같은 바이트 배열을 해당 채팅방 구독 연결에 공유
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            log.error("ChatMessageResponse 직렬화 실패: id={}", message.id(), e);
+            return;
+        }
+        byte[] frame = SseFrames.event(String.valueOf(message.id()), "message", json);
+        sinks.forEach(sink -> sink.emit(frame));
+    }
+
+    /**
+     * 모든 채팅 SSE 연결에 대한 공유 heartbeat입니다. 인스턴스당 타이머 하나로, 주기 동안 이벤트를 받지 않은 연결에만 미리 만들어 둔 ping
+     * 이벤트를 보냅니다.
+     */
+    @Scheduled(fixedRateString = "${chat.sse.heartbeat-interval:5s}")
+    public void heartbeat() {
+        long idleNanos = sseProperties.getHeartbeatInterval().toNanos();
+        subscriptionRepository.forEachConnection(connection -> connection.heartbeat(idleNanos));
     }
 }
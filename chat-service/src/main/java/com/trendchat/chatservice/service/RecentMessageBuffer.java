@@ -0,0 +1,215 @@
+package com.trendchat.chatservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trendchat.chatservice.dto.ChatMessageDto;
+import com.trendchat.chatservice.dto.ChatMessageResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방별 최근 메시지를 Redis List에 고정 크기로 보관하는 링 버퍼입니다.
+ * <p>
+ * 파티션 소비자가 배치 저장 직후 {@code RPUSH + LTRIM}으로 기록하므로, 버퍼는 해당 채팅방에서 가장 최근에 저장된 메시지들입니다. 첫
+ * 페이지 조회 시 요청 크기보다 많은 메시지가 버퍼에 있으면 DB 없이 응답하고, 부족하면 DB로 대체 조회합니다.
+ * </p>
+ * <p>
+ * 메시지 ID는 발행한 인스턴스의 Snowflake 워커가 부여하므로, 인스턴스 간 시계 차이만큼 기록 순서와 ID 순서가 어긋날 수 있습니다. 조회 시
+ * 버퍼 전체를 읽어 ID 오름차순으로 정렬한 뒤 가장 큰 ID부터 잘라내므로, 응답은 {@code before} 커서로 이어 조회할 수 있는 ID 순서를
+ * 따릅니다. 어긋남은 동시에 전송된 메시지 사이의 짧은 구간에 한정되며, 버퍼 앞부분(가장 오래된 항목)은 응답에 쓰지 않으므로 잘려 나간 항목이
+ * 응답 구간 안에 빠지지 않습니다.
+ * </p>
+ * <p>
+ * 기록이 실패해도 배치는 이미 커밋되어 재전달되지 않으므로, 그대로 두면 버퍼에 빠진 메시지가 생긴 채 최신 페이지로 응답됩니다. 기록에 실패한
+ * 채팅방의 버퍼는 삭제하여 조회가 DB로 대체되게 하고, 삭제마저 실패하면 다음 기록 전에 다시 삭제합니다. 삭제 후 버퍼는 새로 기록되는
+ * 메시지부터 다시 채워집니다.
+ * </p>
+ *
+ * <h3>Redis 저장 구조</h3>
+ * <pre>{@code
+ * Key: chat:room:{roomId}:recent
+ * Type: LIST (기록 순서, ChatMessageDto JSON)
+ * 크기: chat.recent.capacity (기본 200)
+ * TTL: 마지막 기록 후 chat.recent.ttl (기본 3일)
+ * }</pre>
+ *
+ * <p>조회 결과는 {@code chat.recent.buffer} 카운터(result=hit|fallback)로 노출합니다.</p>
+ */
+@Slf4j
+@Component
+public class RecentMessageBuffer {
+
+    private static final String KEY_PREFIX = "chat:room:";
+    private static final String KEY_SUFFIX = ":recent";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int capacity;
+    private final Duration ttl;
+    private final Counter hitCounter;
+    private final Counter fallbackCounter;
+    // 기록 실패 후 아직 삭제하지 못한 버퍼 키
+    private final Set<String> pendingInvalidations = ConcurrentHashMap.newKeySet();
+
+    public RecentMessageBuffer(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${chat.recent.capacity:200}") int capacity,
+            @Value("${chat.recent.ttl:3d}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.capacity = capacity;
+        this.ttl = ttl;
+        this.hitCounter = Counter.builder("chat.recent.buffer")
+                .description("최근 메시지 버퍼 조회 결과")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("chat.recent.buffer")
+                .description("최근 메시지 버퍼 조회 결과")
+                .tag("result", "fallback")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 저장이 끝난 메시지 배치를 채팅방별 버퍼에 추가하고 최근 {@code capacity}개만 남깁니다. 실패하면 배치에 포함된 채팅방의 버퍼를 삭제한
+     * 뒤 예외를 던집니다 (배치는 재전달되지 않음).
+     *
+     * @param messages 파티션 수신 순서의 메시지 배치
+     */
+    public void append(List<ChatMessageDto> messages) {
+        invalidatePending();
+
+        Map<String, List<byte[]>> byKey = new LinkedHashMap<>();
+        for (ChatMessageDto message : messages) {
+            byKey.computeIfAbsent(key(message.roomId()), k -> new ArrayList<>()).add(serialize(message));
+        }
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                byKey.forEach((key, values) -> {
+                    byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+                    connection.listCommands().rPush(rawKey, values.toArray(byte[][]::new));
+                    connection.listCommands().lTrim(rawKey, -capacity, -1);
+                    connection.keyCommands().expire(rawKey, ttl.toSeconds());
+                });
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // 일부 채팅방만 기록되었을 수 있으므로 배치의 모든 채팅방 버퍼를 무효화
+            pendingInvalidations.addAll(byKey.keySet());
+            invalidatePending();
+            throw e;
+        }
+    }
+
+    // 무효화 대기 중인 버퍼를 삭제 (실패하면 다음 기록 때 다시 시도)
+    private void invalidatePending() {
+        if (pendingInvalidations.isEmpty()) {
+            return;
+        }
+        Set<String> keys = Set.copyOf(pendingInvalidations);
+        try {
+            redisTemplate.delete(keys);
+            pendingInvalidations.removeAll(keys);
+        } catch (DataAccessException e) {
+            log.warn("Recent message buffer invalidation failed: keys={}", keys.size(), e);
+        }
+    }
+
+    /**
+     * 채팅방에서 ID가 가장 큰 {@code size}개 메시지를 버퍼에서 조회합니다. 다음 페이지 여부 판단을 위해 {@code size + 1}개 이상 버퍼에
+     * 있어야 적중으로 처리합니다.
+     *
+     * @param roomId        채팅방 ID
+     * @param size          조회할 메시지 수
+     * @param currentUserId isMine 판단 기준 유저 ID
+     * @return 적중 시 ID 오름차순 메시지 목록, 아니면 {@link Optional#empty()} (DB 대체 조회 필요)
+     */
+    public Optional<List<ChatMessageResponse>> latest(Long roomId, int size, String currentUserId) {
+        if (size + 1 > capacity) {
+            fallbackCounter.increment();
+            return Optional.empty();
+        }
+
+        List<String> values;
+        try {
+            values = redisTemplate.opsForList().range(key(roomId), 0, -1);
+        } catch (DataAccessException e) {
+            log.warn("Recent message buffer read failed: roomId={}", roomId, e);
+            values = null;
+        }
+
+        List<ChatMessageResponse> messages = values == null ? List.of() : deduplicate(values, currentUserId);
+        if (messages.size() < size + 1) {
+            fallbackCounter.increment();
+            return Optional.empty();
+        }
+
+        hitCounter.increment();
+        return Optional.of(messages.subList(messages.size() - size, messages.size()));
+    }
+
+    // 재전달로 중복 기록된 메시지를 ID 기준으로 제거하고 ID 오름차순으로 정렬
+    // (ZSET 점수(double)는 2^53을 넘는 Snowflake ID를 정확히 표현하지 못하므로 Java에서 정렬)
+    private List<ChatMessageResponse> deduplicate(List<String> values, String currentUserId) {
+        Set<Long> seen = new HashSet<>();
+        List<ChatMessageResponse> messages = new ArrayList<>(values.size());
+        for (String value : values) {
+            ChatMessageDto dto = deserialize(value);
+            if (dto != null && seen.add(dto.id())) {
+                messages.add(new ChatMessageResponse(
+                        dto.id(),
+                        dto.roomId(),
+                        dto.senderId(),
+                        dto.senderNickname(),
+                        dto.content(),
+                        dto.timestamp(),
+                        dto.senderId().equals(currentUserId)
+                ));
+            }
+        }
+        messages.sort(Comparator.comparing(ChatMessageResponse::id));
+        return messages;
+    }
+
+    private byte[] serialize(ChatMessageDto message) {
+        try {
+            return objectMapper.writeValueAsBytes(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("ChatMessageDto 직렬화 실패", e);
+        }
+    }
+
+    private ChatMessageDto deserialize(String value) {
+        try {
+            return objectMapper.readValue(value, ChatMessageDto.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Recent message buffer entry skipped: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private String key(Long roomId) {
+        return KEY_PREFIX + roomId + KEY_SUFFIX;
+    }
+}
@@ -1,6 +1,7 @@
 package com.trendchat.chatservice.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trendchat.chatservice.dto.RoomMemberEvent;
 import com.trendchat.chatservice.dto.RoomSummaryEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,4 +24,13 @@ public class RedisPublisher {
             log.error("Redis Publish 실패", e);
         }
     }
+
+    public void publishMemberJoined(RoomMemberEvent event){
+        try{
+            String json = objectMapper.writeValueAsString(event);
+            redisTemplate.convertAndSend(RoomMemberEventSubscriber.ROOM_MEMBER_JOINED_CHANNEL, json);
+        }catch (Exception e){
+            log.error("Redis Publish 실패", e);
+        }
+    }
 }
@@ -0,0 +1,39 @@
+package com.trendchat.chatservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trendchat.chatservice.dto.RoomMemberEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 인스턴스에서 발생한 채팅방 가입 이벤트를 받아 로컬 멤버십 캐시를 갱신하고, 이 인스턴스에 연결된 SSE 스트림에 채팅방 구독을
+ * 추가합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RoomMemberEventSubscriber implements MessageListener {
+
+    public static final String ROOM_MEMBER_JOINED_CHANNEL = "room-member.joined";
+
+    private final ChatRoomAccessCache chatRoomAccessCache;
+    private final ChatSseService chatSseService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String json = new String(message.getBody(), StandardCharsets.UTF_8);
+            RoomMemberEvent event = objectMapper.readValue(json, RoomMemberEvent.class);
+            chatRoomAccessCache.memberJoined(event.roomId(), event.userId());
+            chatSseService.addRoom(event.userId(), event.roomId());
+        } catch (Exception e) {
+            log.error("Room member event 처리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.trendchat.chatservice.service;
+
+import com.trendchat.chatservice.dto.ChatMessageDto;
+import com.trendchat.chatservice.dto.RoomSummaryEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방 새 메시지 알림(NEW)을 채팅방별로 일정 구간 동안 모아 한 번에 발행합니다.
+ * <p>
+ * 메시지마다 발행하던 {@link RoomSummaryEvent}를 {@code chat.summary.coalesce-window}(기본 250ms)마다 채팅방당 최대 1건으로
+ * 줄이고, 구간 동안의 메시지 수를 {@code count}로 전달합니다. 파티션 소비자가 배치 저장 후 호출하므로, 한 채팅방의 알림은 클러스터 전체에서
+ * 해당 파티션을 소비하는 인스턴스 한 곳에서만 발행됩니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomSummaryCoalescer {
+
+    private final RedisPublisher redisPublisher;
+
+    // 채팅방 ID → 아직 발행하지 않은 새 메시지 수
+    private final Map<Long, Integer> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 저장된 메시지 배치를 채팅방별 대기 건수에 더합니다.
+     *
+     * @param messages 저장된 메시지 배치
+     */
+    public void record(List<ChatMessageDto> messages) {
+        for (ChatMessageDto message : messages) {
+            pending.merge(message.roomId(), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * 대기 중인 채팅방별 건수를 하나의 NEW 이벤트로 발행합니다.
+     */
+    @Scheduled(fixedDelayString = "${chat.summary.coalesce-window:250ms}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (Long roomId : pending.keySet()) {
+            Integer count = pending.remove(roomId);
+            if (count != null) {
+                redisPublisher.publishRoomMessage(RoomSummaryEvent.builder()
+                        .roomId(roomId)
+                        .type("NEW")
+                        .timestamp(now)
+                        .count(count)
+                        .build());
+            }
+        }
+    }
+}
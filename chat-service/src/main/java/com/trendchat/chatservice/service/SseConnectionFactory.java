@@ -0,0 +1,57 @@
+package com.trendchat.chatservice.service;
+
+import com.trendchat.chatservice.config.SseProperties;
+import com.trendchat.chatservice.util.SseConnection;
+import com.trendchat.chatservice.util.SseConnectionRegistry;
+import com.trendchat.chatservice.util.SseFrames;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link SseProperties} 설정이 적용된 {@link SseConnection}과 {@link SseConnectionRegistry}를 생성합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SseConnectionFactory {
+
+    // 모든 연결이 공유하는 ping 이벤트 (데이터 없음)
+    private static final ServerSentEvent<?> PING = ServerSentEvent.builder().event("ping").build();
+
+    private final SseProperties sseProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * {@code ServerSentEvent}를 전달하는 연결을 생성합니다. 응답 인코딩은 연결마다 수행됩니다.
+     *
+     * @param stream 메트릭 태그로 사용할 스트림 이름 (chat, summary)
+     * @param userId 연결 유저 ID
+     */
+    @SuppressWarnings("unchecked")
+    public <T> SseConnection<ServerSentEvent<T>> create(String stream, String userId) {
+        ServerSentEvent<T> reconnect = ServerSentEvent.<T>builder()
+                .event("reconnect")
+                .retry(sseProperties.getReconnectDelay())
+                .build();
+        return new SseConnection<>(stream, userId, (ServerSentEvent<T>) PING, reconnect, sseProperties, meterRegistry);
+    }
+
+    /**
+     * {@link SseFrames}로 미리 인코딩한 프레임을 전달하는 연결을 생성합니다. 같은 프레임을 여러 연결이 공유합니다.
+     *
+     * @param stream 메트릭 태그로 사용할 스트림 이름 (chat, summary)
+     * @param userId 연결 유저 ID
+     */
+    public SseConnection<byte[]> createEncoded(String stream, String userId) {
+        return new SseConnection<>(stream, userId, SseFrames.PING,
+                SseFrames.reconnect(sseProperties.getReconnectDelay()), sseProperties, meterRegistry);
+    }
+
+    /**
+     * @param stream 메트릭 태그로 사용할 스트림 이름 (chat, summary)
+     */
+    public <T> SseConnectionRegistry<T> createRegistry(String stream) {
+        return new SseConnectionRegistry<>(stream, sseProperties.getMaxConnectionsPerUser(), meterRegistry);
+    }
+}
@@ -2,46 +2,51 @@ package com.trendchat.chatservice.service;
 
 
 import com.trendchat.chatservice.dto.RoomSummaryEvent;
-import com.trendchat.chatservice.repository.ChatRoomMemberRepository;
-import lombok.RequiredArgsConstructor;
+import com.trendchat.chatservice.util.SseConnection;
+import com.trendchat.chatservice.util.SseConnectionRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.Sinks;
 
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class SummarySseServiceImpl implements SummarySseService {
 
-    private final Map<String, Sinks.Many<ServerSentEvent<RoomSummaryEvent>>> sinkMap = new ConcurrentHashMap<>();
-    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    // 유저 ID → SSE 연결 목록 (탭·기기별 다중 연결)
+    private final SseConnectionRegistry<ServerSentEvent<RoomSummaryEvent>> registry;
+    private final ChatRoomAccessCache chatRoomAccessCache;
+    private final SseConnectionFactory sseConnectionFactory;
+
+    public SummarySseServiceImpl(ChatRoomAccessCache chatRoomAccessCache, SseConnectionFactory sseConnectionFactory) {
+        this.chatRoomAccessCache = chatRoomAccessCache;
+        this.sseConnectionFactory = sseConnectionFactory;
+        this.registry = sseConnectionFactory.createRegistry("summary");
+    }
 
     @Override
     public Flux<ServerSentEvent<RoomSummaryEvent>> subscribe(String userId) {
 
-        Sinks.Many<ServerSentEvent<RoomSummaryEvent>> sink = Sinks.many().multicast().onBackpressureBuffer();
-        sinkMap.put(userId, sink);
+        SseConnection<ServerSentEvent<RoomSummaryEvent>> sink = sseConnectionFactory.create("summary", userId);
+        registry.register(sink);
 
         return sink.asFlux()
-                .doOnCancel(() -> sinkMap.remove(userId))
-                .doOnTerminate(() -> sinkMap.remove(userId));
+                .doFinally(signal -> registry.remove(sink));
     }
 
+    // 병합된 NEW 이벤트 1건을 채팅방 멤버 중 이 인스턴스에 연결된 유저에게 전달 (멤버 목록은 로컬 캐시)
     @Override
     public void pushToSubscribers(RoomSummaryEvent event) {
-        List<String> participants = chatRoomMemberRepository.findUserIdsByRoomId(event.roomId());
+        if (registry.isEmpty()) {
+            return;
+        }
+        Set<String> participants = chatRoomAccessCache.memberIds(event.roomId());
 
+        ServerSentEvent<RoomSummaryEvent> sse = ServerSentEvent.builder(event).build();
         for (String userId : participants) {
-            Sinks.Many<ServerSentEvent<RoomSummaryEvent>> sink = sinkMap.get(userId);
-            if (sink != null) {
-                sink.tryEmitNext(ServerSentEvent.builder(event).build());
-            }
+            registry.getConnections(userId).forEach(sink -> sink.emit(sse));
         }
     }
 }
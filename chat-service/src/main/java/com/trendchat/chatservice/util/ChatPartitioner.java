@@ -0,0 +1,35 @@
+package com.trendchat.chatservice.util;
+
+import com.trendchat.chatservice.config.ChatPartitionProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 ID를 파티션 번호로 변환하는 컴포넌트입니다.
+ * <p>
+ * Jump Consistent Hash를 사용하므로 같은 채팅방은 항상 같은 파티션으로 라우팅되고(방 단위 순서 보장), 파티션 수를 바꾸더라도 재배치되는 채팅방이
+ * 최소화됩니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatPartitioner {
+
+    private final ChatPartitionProperties partitionProperties;
+
+    public int partitionOf(Long roomId) {
+        return jumpConsistentHash(roomId, partitionProperties.getCount());
+    }
+
+    // Lamping & Veach, "A Fast, Minimal Memory, Consistent Hash Algorithm"
+    private static int jumpConsistentHash(long key, int buckets) {
+        long b = -1;
+        long j = 0;
+        while (j < buckets) {
+            b = j;
+            key = key * 2862933555777941757L + 1;
+            j = (long) ((b + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) b;
+    }
+}
@@ -0,0 +1,202 @@
+package com.trendchat.chatservice.util;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시간 순으로 정렬되는 64비트 메시지 ID 생성기입니다 (Snowflake 방식).
+ * <p>
+ * {@code [41비트 타임스탬프(ms, 2025-01-01 기준)][10비트 워커 ID][12비트 시퀀스]} 구조로, DB INSERT 전에 애플리케이션에서 ID를
+ * 부여합니다. ID는 생성 시각 순으로 증가하므로 커서 페이지네이션 기준과 중복 제거 키로 사용할 수 있습니다.
+ * </p>
+ * <p>
+ * 워커 ID는 {@code chat.id.worker-id}(0~1023)로 지정하며, 범위를 벗어나면 기동에 실패합니다. 지정하지 않으면 기동 시 Redis에서 비어
+ * 있는 워커 ID를 {@code SET NX PX}로 임대하고, {@code chat.id.worker-lease-renew-interval}마다 갱신합니다. 임대를 갱신하지 못한 채
+ * {@code chat.id.worker-lease-ttl}이 지나면 다른 인스턴스가 같은 ID를 가져갈 수 있으므로, 다시 임대할 때까지 ID 발급을 거부합니다.
+ * </p>
+ * <p>
+ * 시계가 뒤로 가면 {@code chat.id.max-clock-backward-ms} 이내는 따라잡을 때까지 대기하고, 그 이상이면 ID 발급을 거부합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SnowflakeIdGenerator {
+
+    private static final long EPOCH = 1735689600000L; // 2025-01-01T00:00:00Z
+    private static final int WORKER_ID_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_WORKER_ID = (1L << WORKER_ID_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final String WORKER_LEASE_PREFIX = "chat:id:worker:";
+
+    // 소유자가 같을 때만 임대 연장
+    private static final RedisScript<Long> RENEW_LEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    // 소유자가 같을 때만 임대 해제
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long configuredWorkerId;
+    private final long maxClockBackwardMs;
+    private final Duration leaseTtl;
+    private final Clock clock;
+    // 임대 소유자 식별값
+    private final String leaseOwner = UUID.randomUUID().toString();
+
+    private long workerId;
+    // 임대가 유효하다고 확인된 시각 (epoch ms), 고정 워커 ID면 Long.MAX_VALUE
+    private volatile long leaseValidUntil;
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    @Autowired
+    public SnowflakeIdGenerator(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${chat.id.worker-id:-1}") long configuredWorkerId,
+            @Value("${chat.id.max-clock-backward-ms:5}") long maxClockBackwardMs,
+            @Value("${chat.id.worker-lease-ttl:30s}") Duration leaseTtl
+    ) {
+        this(redisTemplate, configuredWorkerId, maxClockBackwardMs, leaseTtl, Clock.systemUTC());
+    }
+
+    SnowflakeIdGenerator(RedisTemplate<String, String> redisTemplate, long configuredWorkerId,
+            long maxClockBackwardMs, Duration leaseTtl, Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.configuredWorkerId = configuredWorkerId;
+        this.maxClockBackwardMs = maxClockBackwardMs;
+        this.leaseTtl = leaseTtl;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    void initWorkerId() {
+        if (configuredWorkerId != -1) {
+            if (configuredWorkerId < 0 || configuredWorkerId > MAX_WORKER_ID) {
+                throw new IllegalStateException(
+                        "chat.id.worker-id must be between 0 and " + MAX_WORKER_ID + ": " + configuredWorkerId);
+            }
+            workerId = configuredWorkerId;
+            leaseValidUntil = Long.MAX_VALUE;
+            log.info("Snowflake worker id configured: {}", workerId);
+            return;
+        }
+
+        // 임의 위치부터 순회하여 기동이 몰릴 때 같은 ID를 두고 경합하지 않도록 함
+        long start = ThreadLocalRandom.current().nextLong(MAX_WORKER_ID + 1);
+        for (long i = 0; i <= MAX_WORKER_ID; i++) {
+            long candidate = (start + i) & MAX_WORKER_ID;
+            long now = clock.millis();
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(WORKER_LEASE_PREFIX + candidate, leaseOwner, leaseTtl))) {
+                workerId = candidate;
+                leaseValidUntil = now + leaseTtl.toMillis();
+                log.info("Snowflake worker id leased: {}", workerId);
+                return;
+            }
+        }
+        throw new IllegalStateException("No free Snowflake worker id (all " + (MAX_WORKER_ID + 1) + " leased)");
+    }
+
+    /**
+     * 워커 ID 임대를 연장합니다. 임대가 이미 만료되어 키가 사라졌다면 다시 임대를 시도하고, 다른 인스턴스가 가져갔다면 ID 발급이 계속
+     * 거부됩니다.
+     */
+    @Scheduled(fixedDelayString = "${chat.id.worker-lease-renew-interval:10s}",
+            initialDelayString = "${chat.id.worker-lease-renew-interval:10s}")
+    public void renewLease() {
+        if (leaseValidUntil == Long.MAX_VALUE) {
+            return;
+        }
+        String key = WORKER_LEASE_PREFIX + workerId;
+        long now = clock.millis();
+        try {
+            Long renewed = redisTemplate.execute(RENEW_LEASE_SCRIPT, List.of(key),
+                    leaseOwner, String.valueOf(leaseTtl.toMillis()));
+            boolean leased = (renewed != null && renewed == 1)
+                    || Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, leaseOwner, leaseTtl));
+            if (leased) {
+                leaseValidUntil = now + leaseTtl.toMillis();
+            } else {
+                log.error("Snowflake worker id {} lease lost to another instance", workerId);
+            }
+        } catch (Exception e) {
+            log.warn("Snowflake worker id {} lease renewal failed: {}", workerId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void releaseLease() {
+        if (leaseValidUntil == Long.MAX_VALUE) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(WORKER_LEASE_PREFIX + workerId), leaseOwner);
+        } catch (Exception e) {
+            log.warn("Snowflake worker id {} lease release failed: {}", workerId, e.getMessage());
+        }
+    }
+
+    public synchronized long nextId() {
+        long now = clock.millis();
+
+        if (now >= leaseValidUntil) {
+            throw new IllegalStateException("Snowflake worker id " + workerId + " lease expired");
+        }
+
+        if (now < lastTimestamp) {
+            long backward = lastTimestamp - now;
+            if (backward > maxClockBackwardMs) {
+                throw new IllegalStateException("Clock moved backwards by " + backward + "ms");
+            }
+            now = waitUntil(lastTimestamp);
+        }
+
+        if (now == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 같은 ms 내 시퀀스 소진 → 다음 ms까지 대기
+                now = waitUntil(lastTimestamp + 1);
+            }
+        } else {
+            sequence = 0L;
+        }
+
+        lastTimestamp = now;
+        return ((now - EPOCH) << (WORKER_ID_BITS + SEQUENCE_BITS))
+                | (workerId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    private long waitUntil(long target) {
+        long now = clock.millis();
+        while (now < target) {
+            Thread.onSpinWait();
+            now = clock.millis();
+        }
+        return now;
+    }
+}
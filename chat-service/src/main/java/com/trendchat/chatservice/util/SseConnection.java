@@ -0,0 +1,208 @@
+package com.trendchat.chatservice.util;
+
+import com.trendchat.chatservice.config.SseProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 송신 버퍼 크기가 제한된 SSE 연결 하나를 나타냅니다.
+ * <p>
+ * 연결마다 {@link ArrayBlockingQueue} 기반 unicast Sink를 사용하므로 대기 이벤트 수가 {@code bufferSize}를 넘지 않습니다. 버퍼가 가득
+ * 차면 {@link SseProperties.OverflowPolicy}에 따라 가장 오래된 이벤트를 버리거나, 대기 이벤트를 모두 버리고 재연결 안내 이벤트
+ * ({@code event: reconnect}, {@code retry})를 보낸 뒤 연결을 종료합니다.
+ * </p>
+ * <p>
+ * 한 유저가 여러 연결(탭·기기)을 가질 수 있으므로 연결은 인스턴스 내에서 고유한 {@code id}로 구분합니다.
+ * </p>
+ * <p>
+ * 브로드캐스트 스레드와 공유 heartbeat 스레드가 같은 연결에 동시에 전달할 수 있으므로, 전달은 연결별 잠금으로 직렬화하고 Sink는 자체 직렬화
+ * 검사가 없는 {@link Sinks#unsafe()} Sink를 사용합니다. 동시 전달이 {@code FAIL_NON_SERIALIZED}로 실패해 이벤트가 버려지지 않습니다.
+ * </p>
+ * <p>
+ * 연결 유지용 ping은 연결마다 타이머를 두지 않고, 공유 heartbeat 작업이 {@link #heartbeat(long)}로 미리 만들어 둔 ping 이벤트를
+ * 전달합니다. 최근에 이벤트를 보낸 연결은 건너뜁니다.
+ * </p>
+ * <p>
+ * 송신 단위는 {@code ServerSentEvent} 또는 {@link SseFrames}로 미리 인코딩한 프레임이며, ping·재연결 안내 이벤트도 같은 형식으로
+ * 생성 시 전달받습니다 ({@code SseConnectionFactory}).
+ * </p>
+ *
+ * <h3>메트릭 (tag: stream)</h3>
+ * <pre>{@code
+ * sse.emit.failures{result}   Sink 전달 실패 수 (FAIL_OVERFLOW, FAIL_CANCELLED 등)
+ * sse.emit.dropped            DROP_OLDEST 정책으로 버린 이벤트 수
+ * sse.evictions{reason}       서버가 종료한 연결 수 (overflow, connection-limit)
+ * sse.queue.depth             전달 직후 연결별 대기 이벤트 수 분포
+ * }</pre>
+ *
+ * @param <T> 송신 단위 타입 ({@code ServerSentEvent} 또는 인코딩된 프레임 {@code byte[]})
+ */
+public class SseConnection<T> {
+
+    // 버퍼 초과(DROP_OLDEST) 시 재시도 횟수
+    private static final int MAX_EMIT_ATTEMPTS = 8;
+    private static final AtomicLong ID_SEQUENCE = new AtomicLong();
+
+    @Getter
+    private final long id = ID_SEQUENCE.incrementAndGet();
+    @Getter
+    private final String userId;
+    private final String stream;
+    private final Queue<T> queue;
+    private final Sinks.Many<T> sink;
+    // sink 전달 직렬화용
+    private final Object emitLock = new Object();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicBoolean reconnect = new AtomicBoolean();
+    private final Sinks.Empty<Void> closeSignal = Sinks.empty();
+    private final SseProperties.OverflowPolicy overflowPolicy;
+    private final T ping;
+    private final T reconnectEvent;
+    private final Counter dropped;
+    private final Map<Sinks.EmitResult, Counter> emitFailures = new EnumMap<>(Sinks.EmitResult.class);
+    private final Counter overflowEvictions;
+    private final Counter limitEvictions;
+    private final DistributionSummary queueDepth;
+    private volatile long lastEmitNanos = System.nanoTime();
+
+    public SseConnection(String stream, String userId, T ping, T reconnectEvent, SseProperties properties,
+            MeterRegistry meterRegistry) {
+        this.stream = stream;
+        this.userId = userId;
+        this.queue = new ArrayBlockingQueue<>(properties.getBufferSize());
+        this.sink = Sinks.unsafe().many().unicast().onBackpressureBuffer(queue);
+        this.overflowPolicy = properties.getOverflowPolicy();
+        this.ping = ping;
+        this.reconnectEvent = reconnectEvent;
+        this.dropped = Counter.builder("sse.emit.dropped")
+                .tag("stream", stream)
+                .register(meterRegistry);
+        for (Sinks.EmitResult result : Sinks.EmitResult.values()) {
+            if (result.isFailure()) {
+                emitFailures.put(result, Counter.builder("sse.emit.failures")
+                        .tag("stream", stream)
+                        .tag("result", result.name())
+                        .register(meterRegistry));
+            }
+        }
+        this.overflowEvictions = evictionCounter(stream, "overflow", meterRegistry);
+        this.limitEvictions = evictionCounter(stream, "connection-limit", meterRegistry);
+        this.queueDepth = DistributionSummary.builder("sse.queue.depth")
+                .tag("stream", stream)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 클라이언트 응답으로 사용할 이벤트 스트림을 반환합니다. 연결당 한 번만 구독할 수 있습니다.
+     *
+     * @return 이벤트 스트림 (DISCONNECT 시 재연결 안내 이벤트 후 종료)
+     */
+    public Flux<T> asFlux() {
+        return sink.asFlux()
+                .takeUntilOther(closeSignal.asMono())
+                .concatWith(Mono.just(reconnectEvent).filter(event -> reconnect.get()));
+    }
+
+    /**
+     * 서버가 연결을 종료할 때 완료되는 신호를 반환합니다. 응답에 병합한 다른 스트림을 함께 끝낼 때 사용합니다.
+     */
+    public Mono<Void> onClose() {
+        return closeSignal.asMono();
+    }
+
+    /**
+     * 이벤트를 연결의 송신 버퍼에 추가합니다.
+     *
+     * @param event 전달할 이벤트
+     * @return 버퍼에 추가되었는지 여부
+     */
+    public boolean emit(T event) {
+        Sinks.EmitResult result;
+        synchronized (emitLock) {
+            result = tryEmit(event);
+        }
+        if (result.isSuccess()) {
+            lastEmitNanos = System.nanoTime();
+            queueDepth.record(queue.size());
+            return true;
+        }
+        if (result == Sinks.EmitResult.FAIL_OVERFLOW
+                && overflowPolicy == SseProperties.OverflowPolicy.DISCONNECT) {
+            evict();
+        }
+        emitFailures.get(result).increment();
+        return false;
+    }
+
+    // emitLock 안에서 호출
+    private Sinks.EmitResult tryEmit(T event) {
+        for (int attempt = 1; ; attempt++) {
+            Sinks.EmitResult result = sink.tryEmitNext(event);
+            if (result == Sinks.EmitResult.FAIL_OVERFLOW
+                    && overflowPolicy == SseProperties.OverflowPolicy.DROP_OLDEST
+                    && attempt < MAX_EMIT_ATTEMPTS) {
+                if (queue.poll() != null) {
+                    dropped.increment();
+                }
+                continue;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 마지막 전달 후 {@code idleNanos} 이상 지난 경우에만 ping 이벤트를 전달합니다.
+     *
+     * @param idleNanos ping 없이 허용하는 최대 유휴 시간 (ns)
+     * @return ping 전달 여부
+     */
+    public boolean heartbeat(long idleNanos) {
+        if (System.nanoTime() - lastEmitNanos < idleNanos) {
+            return false;
+        }
+        return emit(ping);
+    }
+
+    /**
+     * 느린 클라이언트의 대기 이벤트를 버리고 재연결 안내 이벤트와 함께 연결을 종료합니다.
+     */
+    public void evict() {
+        reconnect.set(true);
+        terminate(overflowEvictions);
+    }
+
+    /**
+     * 재연결 안내 없이 연결을 종료합니다. 유저별 최대 연결 수를 넘긴 가장 오래된 연결에 사용합니다.
+     */
+    public void close() {
+        terminate(limitEvictions);
+    }
+
+    private void terminate(Counter evictions) {
+        if (closed.compareAndSet(false, true)) {
+            closeSignal.tryEmitEmpty();
+            queue.clear();
+            evictions.increment();
+        }
+    }
+
+    private static Counter evictionCounter(String stream, String reason, MeterRegistry meterRegistry) {
+        return Counter.builder("sse.evictions")
+                .tag("stream", stream)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,103 @@
+package com.trendchat.chatservice.util;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 유저 ID와 연결 ID 기준으로 SSE 연결을 관리하는 인메모리 레지스트리입니다.
+ * <p>
+ * 한 유저가 여러 탭·기기에서 동시에 연결할 수 있으며, 연결은 각자 자신만 제거하므로 새 연결이 이전 연결의 종료 처리로 사라지지 않습니다. 유저별
+ * 연결이 {@code maxPerUser}를 넘으면 가장 오래된 연결부터 종료합니다. 유저별 연결 목록은 변경 시마다 새 불변 리스트로 교체되므로 조회는 잠금
+ * 없이 수행됩니다.
+ * </p>
+ *
+ * <h3>메트릭 (tag: stream)</h3>
+ * <pre>{@code
+ * sse.connections.active   활성 연결 수
+ * sse.users.active         연결 중인 유저 수
+ * }</pre>
+ *
+ * @param <T> 이벤트 데이터 타입
+ */
+public class SseConnectionRegistry<T> {
+
+    private final Map<String, List<SseConnection<T>>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final int maxPerUser;
+
+    public SseConnectionRegistry(String stream, int maxPerUser, MeterRegistry meterRegistry) {
+        this.maxPerUser = maxPerUser;
+        Gauge.builder("sse.connections.active", connectionCount, AtomicInteger::get)
+                .tag("stream", stream)
+                .register(meterRegistry);
+        Gauge.builder("sse.users.active", connections, Map::size)
+                .tag("stream", stream)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 연결을 등록합니다. 유저별 최대 연결 수를 넘으면 가장 오래된 연결을 목록에서 빼고 종료합니다.
+     *
+     * @param connection 등록할 연결
+     */
+    public void register(SseConnection<T> connection) {
+        List<SseConnection<T>> overflow = new ArrayList<>();
+        connections.compute(connection.getUserId(), (userId, current) -> {
+            List<SseConnection<T>> next = current == null ? new ArrayList<>() : new ArrayList<>(current);
+            next.add(connection);
+            while (next.size() > maxPerUser) {
+                overflow.add(next.remove(0));
+            }
+            connectionCount.addAndGet(1 - overflow.size());
+            return List.copyOf(next);
+        });
+        overflow.forEach(SseConnection::close);
+    }
+
+    /**
+     * 연결을 제거합니다. 이미 제거된 연결이면 아무 것도 하지 않습니다.
+     *
+     * @param connection 제거할 연결
+     * @return 실제로 제거되었는지 여부
+     */
+    public boolean remove(SseConnection<T> connection) {
+        boolean[] removed = {false};
+        connections.computeIfPresent(connection.getUserId(), (userId, current) -> {
+            List<SseConnection<T>> next = new ArrayList<>(current);
+            removed[0] = next.remove(connection);
+            if (removed[0]) {
+                connectionCount.decrementAndGet();
+            }
+            return next.isEmpty() ? null : List.copyOf(next);
+        });
+        return removed[0];
+    }
+
+    /**
+     * 유저의 활성 연결 목록을 반환합니다.
+     *
+     * @param userId 유저 ID
+     * @return 연결 목록 (없으면 빈 목록)
+     */
+    public List<SseConnection<T>> getConnections(String userId) {
+        return connections.getOrDefault(userId, List.of());
+    }
+
+    /**
+     * 모든 활성 연결에 작업을 수행합니다.
+     */
+    public void forEach(Consumer<SseConnection<T>> action) {
+        connections.values().forEach(list -> list.forEach(action));
+    }
+
+    public boolean isEmpty() {
+        return connections.isEmpty();
+    }
+}
@@ -0,0 +1,56 @@
+package com.trendchat.chatservice.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 미리 인코딩한 SSE 프레임({@code text/event-stream})을 만듭니다.
+ * <p>
+ * 같은 이벤트를 여러 연결에 보낼 때 연결마다 {@code ServerSentEvent}를 인코딩하지 않고, 한 번 인코딩한 UTF-8 바이트 배열을 모든 연결이
+ * 공유합니다. 응답에는 {@code DataBufferFactory#wrap(byte[])}로 복사 없이 감싸서 쓰므로, 반환된 배열은 수정하면 안 됩니다.
+ * </p>
+ */
+public final class SseFrames {
+
+    // 모든 연결이 공유하는 ping 프레임 (데이터 없음)
+    public static final byte[] PING = encode(null, "ping", null, null);
+
+    private SseFrames() {
+    }
+
+    /**
+     * @param id    이벤트 ID (클라이언트 재연결 시 {@code Last-Event-ID}로 전달됨)
+     * @param event 이벤트 이름
+     * @param data  이벤트 데이터 (여러 줄이면 줄마다 {@code data:} 필드로 나눔)
+     * @return {@code id/event/data} 필드와 빈 줄로 끝나는 프레임
+     */
+    public static byte[] event(String id, String event, String data) {
+        return encode(id, event, null, data);
+    }
+
+    /**
+     * @param retry 클라이언트 재연결 대기 시간
+     * @return 재연결 안내 프레임 ({@code event: reconnect}, {@code retry})
+     */
+    public static byte[] reconnect(Duration retry) {
+        return encode(null, "reconnect", retry, null);
+    }
+
+    private static byte[] encode(String id, String event, Duration retry, String data) {
+        StringBuilder frame = new StringBuilder(data == null ? 32 : data.length() + 64);
+        if (id != null) {
+            frame.append("id:").append(id).append('\n');
+        }
+        if (event != null) {
+            frame.append("event:").append(event).append('\n');
+        }
+        if (retry != null) {
+            frame.append("retry:").append(retry.toMillis()).append('\n');
+        }
+        if (data != null) {
+            frame.append("data:").append(data.replace("\n", "\ndata:")).append('\n');
+        }
+        frame.append('\n');
+        return frame.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
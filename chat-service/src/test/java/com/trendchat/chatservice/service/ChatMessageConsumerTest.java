@@ -0,0 +1,51 @@
+package com.trendchat.chatservice.service;
+
+import com.trendchat.chatservice.dto.ChatMessageDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ChatMessageConsumerTest {
+
+    private final ChatService chatService = mock(ChatService.class);
+    private final RecentMessageBuffer recentMessageBuffer = mock(RecentMessageBuffer.class);
+    private final ChatRoomStatsEngine chatRoomStatsEngine = mock(ChatRoomStatsEngine.class);
+    private final ActiveRoomLeaderboard activeRoomLeaderboard = mock(ActiveRoomLeaderboard.class);
+    private final RoomSummaryCoalescer roomSummaryCoalescer = mock(RoomSummaryCoalescer.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ChatMessageConsumer consumer = new ChatMessageConsumer(chatService, recentMessageBuffer,
+            chatRoomStatsEngine, activeRoomLeaderboard, roomSummaryCoalescer, meterRegistry);
+
+    @Test
+    @DisplayName("저장 이후 단계의 Redis 실패는 단계별로 집계하고 나머지 단계는 계속 수행한다")
+    void countsPostCommitFailuresPerStep() {
+        List<ChatMessageDto> messages = List.of(
+                new ChatMessageDto(1L, 1L, "user-1", "닉네임", "hello", LocalDateTime.of(2025, 6, 1, 12, 0)));
+        doThrow(new RedisConnectionFailureException("down")).when(chatRoomStatsEngine).recordMessages(anyList());
+        doThrow(new RedisConnectionFailureException("down")).when(activeRoomLeaderboard).recordMessages(anyList());
+
+        consumer.receive(messages);
+
+        verify(chatService).saveMessages(messages);
+        verify(recentMessageBuffer).append(messages);
+        verify(roomSummaryCoalescer).record(messages);
+        assertThat(failures("stats")).isEqualTo(1);
+        assertThat(failures("leaderboard")).isEqualTo(1);
+        assertThat(failures("recent-buffer")).isZero();
+    }
+
+    private double failures(String step) {
+        return meterRegistry.counter("chat.consumer.post_commit.failures", "step", step).count();
+    }
+}
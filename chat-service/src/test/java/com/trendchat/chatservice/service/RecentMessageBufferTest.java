@@ -0,0 +1,107 @@
+package com.trendchat.chatservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.trendchat.chatservice.dto.ChatMessageDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RecentMessageBufferTest {
+
+    private static final String ROOM_1 = "chat:room:1:recent";
+    private static final String ROOM_2 = "chat:room:2:recent";
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ListOperations<String, String> listOperations = mock(ListOperations.class);
+
+    private RecentMessageBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        buffer = new RecentMessageBuffer(redisTemplate, objectMapper, new SimpleMeterRegistry(), 200, Duration.ofDays(3));
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+    }
+
+    @Test
+    @DisplayName("기록에 실패하면 배치에 포함된 채팅방 버퍼를 삭제하고 예외를 던진다")
+    void invalidatesBuffersWhenAppendFails() {
+        givenPipelineFails();
+
+        assertThatThrownBy(() -> buffer.append(List.of(message(10L, 1L), message(11L, 2L))))
+                .isInstanceOf(RedisConnectionFailureException.class);
+
+        verify(redisTemplate).delete(Set.of(ROOM_1, ROOM_2));
+    }
+
+    @Test
+    @DisplayName("삭제마저 실패하면 다음 기록 전에 다시 삭제한다")
+    void retriesInvalidationBeforeNextAppend() {
+        givenPipelineFails();
+        doThrow(new RedisConnectionFailureException("down")).when(redisTemplate).delete(anyCollection());
+        assertThatThrownBy(() -> buffer.append(List.of(message(10L, 1L))))
+                .isInstanceOf(RedisConnectionFailureException.class);
+
+        // Redis 복구 후 다음 배치
+        doReturn(1L).when(redisTemplate).delete(anyCollection());
+        doReturn(List.of()).when(redisTemplate).executePipelined(any(RedisCallback.class));
+        buffer.append(List.of(message(20L, 3L)));
+        buffer.append(List.of(message(21L, 3L)));
+
+        // 실패 시 1번, 다음 기록 전 1번 (이후에는 대기 중인 키가 없음)
+        verify(redisTemplate, times(2)).delete(Set.of(ROOM_1));
+    }
+
+    @Test
+    @DisplayName("무효화된 버퍼는 조회 시 DB로 대체된다")
+    void fallsBackAfterInvalidation() {
+        // 삭제된 키는 빈 목록으로 조회됨
+        when(listOperations.range(ROOM_1, 0, -1)).thenReturn(List.of());
+
+        assertThat(buffer.latest(1L, 20, "user-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기록에 성공하면 버퍼를 삭제하지 않는다")
+    void keepsBuffersWhenAppendSucceeds() {
+        doReturn(List.of()).when(redisTemplate).executePipelined(any(RedisCallback.class));
+
+        buffer.append(List.of(message(10L, 1L)));
+
+        verify(redisTemplate, never()).delete(anyCollection());
+    }
+
+    private void givenPipelineFails() {
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(redisTemplate).executePipelined(any(RedisCallback.class));
+    }
+
+    private static ChatMessageDto message(Long id, Long roomId) {
+        return new ChatMessageDto(id, roomId, "user-1", "닉네임", "hello", LocalDateTime.of(2025, 6, 1, 12, 0));
+    }
+}
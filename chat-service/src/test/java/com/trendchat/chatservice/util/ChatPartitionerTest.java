@@ -0,0 +1,76 @@
+package com.trendchat.chatservice.util;
+
+import com.trendchat.chatservice.config.ChatPartitionProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ChatPartitionerTest {
+
+    private static final int ROOMS = 10_000;
+
+    @Test
+    @DisplayName("같은 채팅방은 항상 범위 안의 같은 파티션으로 라우팅된다")
+    void routesRoomToStablePartitionInRange() {
+        ChatPartitioner partitioner = partitioner(4);
+
+        for (long roomId = 1; roomId <= ROOMS; roomId++) {
+            int partition = partitioner.partitionOf(roomId);
+            assertThat(partition).isBetween(0, 3);
+            assertThat(partitioner.partitionOf(roomId)).isEqualTo(partition);
+        }
+    }
+
+    @Test
+    @DisplayName("파티션이 1개면 모든 채팅방이 0번으로 간다")
+    void singlePartition() {
+        ChatPartitioner partitioner = partitioner(1);
+
+        assertThat(partitioner.partitionOf(1L)).isZero();
+        assertThat(partitioner.partitionOf(Long.MAX_VALUE)).isZero();
+    }
+
+    @Test
+    @DisplayName("채팅방이 파티션에 고르게 분산된다")
+    void distributesRoomsEvenly() {
+        int count = 8;
+        ChatPartitioner partitioner = partitioner(count);
+        int[] rooms = new int[count];
+
+        for (long roomId = 1; roomId <= ROOMS; roomId++) {
+            rooms[partitioner.partitionOf(roomId)]++;
+        }
+
+        for (int partition = 0; partition < count; partition++) {
+            assertThat((double) rooms[partition]).isCloseTo(ROOMS / (double) count, within(ROOMS / (double) count * 0.1));
+        }
+    }
+
+    @Test
+    @DisplayName("파티션을 늘리면 새 파티션으로 옮겨 가는 채팅방만 재배치된다")
+    void movesOnlyToNewPartitionWhenGrowing() {
+        ChatPartitioner before = partitioner(4);
+        ChatPartitioner after = partitioner(5);
+        int moved = 0;
+
+        for (long roomId = 1; roomId <= ROOMS; roomId++) {
+            int from = before.partitionOf(roomId);
+            int to = after.partitionOf(roomId);
+            if (from != to) {
+                assertThat(to).isEqualTo(4);
+                moved++;
+            }
+        }
+
+        // 기대값 1/5
+        assertThat((double) moved).isCloseTo(ROOMS / 5.0, within(ROOMS / 5.0 * 0.1));
+    }
+
+    private static ChatPartitioner partitioner(int count) {
+        ChatPartitionProperties properties = new ChatPartitionProperties();
+        properties.setCount(count);
+        return new ChatPartitioner(properties);
+    }
+}
@@ -0,0 +1,206 @@
+package com.trendchat.chatservice.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long EPOCH = 1735689600000L;
+    private static final Duration LEASE_TTL = Duration.ofSeconds(30);
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final MutableClock clock = new MutableClock(EPOCH + 1_000_000);
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("지정한 워커 ID가 범위를 벗어나면 기동에 실패한다")
+    void rejectsConfiguredWorkerIdOutOfRange() {
+        assertThatThrownBy(() -> generator(1024).initWorkerId()).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> generator(-2).initWorkerId()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("지정한 워커 ID는 Redis 임대 없이 ID에 포함된다")
+    void usesConfiguredWorkerIdWithoutLease() {
+        SnowflakeIdGenerator generator = generator(7);
+        generator.initWorkerId();
+
+        long id = generator.nextId();
+
+        assertThat(workerId(id)).isEqualTo(7);
+        assertThat(timestamp(id)).isEqualTo(clock.millis());
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("워커 ID를 지정하지 않으면 비어 있는 ID를 Redis에서 임대한다")
+    void leasesFreeWorkerId() {
+        // 하나를 제외한 모든 워커 ID가 임대 중
+        when(valueOperations.setIfAbsent(startsWith("chat:id:worker:"), anyString(), eq(LEASE_TTL))).thenReturn(false);
+        when(valueOperations.setIfAbsent(eq("chat:id:worker:512"), anyString(), eq(LEASE_TTL))).thenReturn(true);
+        SnowflakeIdGenerator generator = generator(-1);
+        generator.initWorkerId();
+
+        assertThat(workerId(generator.nextId())).isEqualTo(512);
+    }
+
+    @Test
+    @DisplayName("비어 있는 워커 ID가 없으면 기동에 실패한다")
+    void failsWhenAllWorkerIdsLeased() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), eq(LEASE_TTL))).thenReturn(false);
+
+        assertThatThrownBy(() -> generator(-1).initWorkerId()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("같은 ms 안에서는 시퀀스를 올리고, 소진되면 다음 ms로 넘어간다")
+    void incrementsSequenceAndWaitsForNextMillis() {
+        SnowflakeIdGenerator generator = generator(1);
+        generator.initWorkerId();
+        long start = clock.millis();
+
+        long previous = -1;
+        for (int i = 0; i < 4096; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            assertThat(timestamp(id)).isEqualTo(start);
+            assertThat(sequence(id)).isEqualTo(i);
+            previous = id;
+        }
+
+        clock.advanceOnRead = true;
+        long next = generator.nextId();
+
+        assertThat(next).isGreaterThan(previous);
+        assertThat(timestamp(next)).isGreaterThan(start);
+        assertThat(sequence(next)).isZero();
+    }
+
+    @Test
+    @DisplayName("시계가 허용치 이내로 뒤로 가면 따라잡을 때까지 기다리고, 넘으면 거부한다")
+    void handlesClockMovingBackwards() {
+        SnowflakeIdGenerator generator = generator(1);
+        generator.initWorkerId();
+        long first = generator.nextId();
+
+        clock.millis -= 3;
+        clock.advanceOnRead = true;
+        long second = generator.nextId();
+        assertThat(second).isGreaterThan(first);
+
+        clock.advanceOnRead = false;
+        clock.millis -= 100;
+        assertThatThrownBy(generator::nextId)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("backwards");
+    }
+
+    @Test
+    @DisplayName("임대가 만료되면 ID 발급을 거부하고, 갱신에 성공하면 다시 발급한다")
+    void refusesIdsUntilLeaseRenewed() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), eq(LEASE_TTL))).thenReturn(true);
+        SnowflakeIdGenerator generator = generator(-1);
+        generator.initWorkerId();
+        generator.nextId();
+
+        clock.millis += LEASE_TTL.toMillis();
+        assertThatThrownBy(generator::nextId)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("lease expired");
+
+        doReturn(1L).when(redisTemplate).execute(any(RedisScript.class), anyList(), anyString(), anyString());
+        generator.renewLease();
+
+        assertThat(timestamp(generator.nextId())).isEqualTo(clock.millis());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 워커 ID를 가져가면 갱신해도 발급을 거부한다")
+    void staysExpiredWhenLeaseLost() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), eq(LEASE_TTL))).thenReturn(true, false);
+        SnowflakeIdGenerator generator = generator(-1);
+        generator.initWorkerId();
+
+        clock.millis += LEASE_TTL.toMillis();
+        doReturn(0L).when(redisTemplate).execute(any(RedisScript.class), anyList(), anyString(), anyString());
+        generator.renewLease();
+
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    private SnowflakeIdGenerator generator(long workerId) {
+        return new SnowflakeIdGenerator(redisTemplate, workerId, 5, LEASE_TTL, clock);
+    }
+
+    private static long timestamp(long id) {
+        return (id >>> 22) + EPOCH;
+    }
+
+    private static long workerId(long id) {
+        return (id >>> 12) & 1023;
+    }
+
+    private static long sequence(long id) {
+        return id & 4095;
+    }
+
+    // advanceOnRead가 켜져 있으면 읽을 때마다 1ms씩 진행
+    private static class MutableClock extends Clock {
+
+        private long millis;
+        private boolean advanceOnRead;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public long millis() {
+            return advanceOnRead ? millis++ : millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
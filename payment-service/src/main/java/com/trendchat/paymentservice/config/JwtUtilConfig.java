@@ -1,6 +1,8 @@
 package com.trendchat.paymentservice.config;
 
+import com.trendchat.auth.util.CachingJwtUtil;
 import com.trendchat.trendchatcommon.util.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
@@ -16,8 +18,11 @@ public class JwtUtilConfig {
     @Value("${jwt.token.refresh.secret.key}")
     private String refreshSecretKey;
 
+    @Value("${jwt.token.cache.max-size:10000}")
+    private long tokenCacheMaxSize;
+
     @Bean
-    public JwtUtil jwtUtil() {
-        return new JwtUtil(accessSecretKey, refreshSecretKey);
+    public CachingJwtUtil jwtUtil(MeterRegistry meterRegistry) {
+        return new CachingJwtUtil(accessSecretKey, refreshSecretKey, tokenCacheMaxSize, meterRegistry);
     }
 }
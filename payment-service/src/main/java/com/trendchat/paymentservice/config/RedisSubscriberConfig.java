@@ -0,0 +1,27 @@
+package com.trendchat.paymentservice.config;
+
+import com.trendchat.auth.util.RedisBlacklistChecker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 블랙리스트 등록 이벤트({@value RedisBlacklistChecker#BLACKLIST_CHANNEL})를 구독하는 Redis Pub/Sub 설정입니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class RedisSubscriberConfig {
+
+    private final RedisBlacklistChecker blacklistChecker;
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory factory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        container.addMessageListener(blacklistChecker, new ChannelTopic(RedisBlacklistChecker.BLACKLIST_CHANNEL));
+        return container;
+    }
+}
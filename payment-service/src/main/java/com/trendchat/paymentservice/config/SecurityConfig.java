@@ -1,5 +1,7 @@
 package com.trendchat.paymentservice.config;
 
+import com.trendchat.auth.filter.GatewayIdentityFilterMvc;
+import com.trendchat.auth.util.GatewayIdentityVerifier;
 import com.trendchat.trendchatcommon.filter.AuthorizationFilterMvc;
 import com.trendchat.trendchatcommon.util.BlacklistChecker;
 import com.trendchat.trendchatcommon.util.JwtUtil;
@@ -22,6 +24,7 @@ import org.springframework.security.web.authentication.AuthenticationFilter;
  * <h2>주요 역할</h2>
  * <ul>
  *     <li>JWT 및 블랙리스트 체크를 수행하는 {@link AuthorizationFilterMvc} Bean 등록</li>
+ *     <li>게이트웨이가 서명한 식별 헤더가 있으면 JWT 검증을 생략하는 {@link GatewayIdentityFilterMvc} 적용</li>
  *     <li>세션을 생성하지 않는 Stateless 보안 정책 적용</li>
  *     <li>CSRF, 기본 인증, 폼 로그인을 비활성화하여 REST API 환경에 적합화</li>
  *     <li>경로별 인가 정책 설정:
@@ -47,15 +50,21 @@ public class SecurityConfig {
 
     /**
      * JWT 인증 및 블랙리스트 검증을 수행하는 MVC 전용 필터를 Bean으로 등록합니다.
+     * <p>
+     * 게이트웨이 식별 헤더가 유효하면 그 정보로 인증하고, 아니면 {@link AuthorizationFilterMvc}로 토큰을 직접 검증합니다.
+     * </p>
      *
      * @param blacklistChecker 블랙리스트 토큰 검사 유틸리티
-     * @return {@link AuthorizationFilterMvc} 인스턴스
+     * @param identityVerifier 게이트웨이 식별 헤더 검증기
+     * @return {@link GatewayIdentityFilterMvc} 인스턴스
      */
     @Bean
-    public AuthorizationFilterMvc authorizationFilter(
-            BlacklistChecker blacklistChecker
+    public GatewayIdentityFilterMvc authorizationFilter(
+            BlacklistChecker blacklistChecker,
+            GatewayIdentityVerifier identityVerifier
     ) {
-        return new AuthorizationFilterMvc(jwtUtil, blacklistChecker);
+        return new GatewayIdentityFilterMvc(identityVerifier,
+                new AuthorizationFilterMvc(jwtUtil, blacklistChecker));
     }
 
     /**
@@ -73,7 +82,7 @@ public class SecurityConfig {
     @Bean
     public SecurityFilterChain filterChain(
             HttpSecurity httpSecurity,
-            AuthorizationFilterMvc authorizationFilter
+            GatewayIdentityFilterMvc authorizationFilter
     ) throws Exception {
         return httpSecurity
                 .csrf(AbstractHttpConfigurer::disable)
@@ -0,0 +1,45 @@
+package com.trendchat.auth.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trendchat.auth.util.CachingJwtUtil;
+import com.trendchat.auth.util.GatewayIdentityVerifier;
+import com.trendchat.auth.util.RedisBlacklistChecker;
+import com.trendchat.trendchatcommon.util.BlacklistChecker;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * 서비스 공통 인증 구성 요소를 등록하는 자동 설정입니다.
+ * <p>
+ * 각 서비스의 컴포넌트 스캔 범위({@code com.trendchat.<서비스>}) 밖에 있으므로 자동 설정으로 등록합니다. 서비스는
+ * {@link CachingJwtUtil}과 {@code RedisTemplate<String, String>} 빈을 제공해야 하며, 블랙리스트 이벤트 구독과 보안 필터 체인
+ * 구성은 서비스별 설정에서 합니다.
+ * </p>
+ */
+@AutoConfiguration
+public class TrendChatAuthAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public RedisBlacklistChecker redisBlacklistChecker(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            CachingJwtUtil jwtUtil
+    ) {
+        return new RedisBlacklistChecker(redisTemplate, objectMapper, jwtUtil);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public GatewayIdentityVerifier gatewayIdentityVerifier(
+            @Value("${auth.identity.secret-key:}") String secretKey,
+            BlacklistChecker blacklistChecker,
+            MeterRegistry meterRegistry
+    ) {
+        return new GatewayIdentityVerifier(secretKey, blacklistChecker, meterRegistry);
+    }
+}
@@ -0,0 +1,19 @@
+package com.trendchat.auth.dto;
+
+/**
+ * 블랙리스트 등록을 모든 서비스 인스턴스에 알리는 Redis Pub/Sub 이벤트입니다.
+ *
+ * @param type      등록 대상 종류
+ * @param value     사용자 ID 또는 액세스 토큰의 SHA-256 digest(hex)
+ * @param ttlMillis 블랙리스트 유지 시간 (밀리초)
+ */
+public record BlacklistEvent(
+        Type type,
+        String value,
+        long ttlMillis
+) {
+    public enum Type {
+        USER,
+        TOKEN
+    }
+}
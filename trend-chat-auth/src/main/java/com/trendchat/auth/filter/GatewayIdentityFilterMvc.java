@@ -0,0 +1,49 @@
+package com.trendchat.auth.filter;
+
+import com.trendchat.auth.util.GatewayIdentityVerifier;
+import com.trendchat.trendchatcommon.filter.AuthorizationFilterMvc;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * 게이트웨이 식별 헤더가 유효하면 그 정보로 인증하고, 아니면 {@link AuthorizationFilterMvc}에 위임하는 MVC 필터입니다.
+ *
+ * @see GatewayIdentityVerifier
+ */
+public class GatewayIdentityFilterMvc extends OncePerRequestFilter {
+
+    private final GatewayIdentityVerifier verifier;
+    private final AuthorizationFilterMvc delegate;
+
+    public GatewayIdentityFilterMvc(GatewayIdentityVerifier verifier, AuthorizationFilterMvc delegate) {
+        this.verifier = verifier;
+        this.delegate = delegate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        Optional<Authentication> authentication = verifier.verify(
+                request.getHeader(GatewayIdentityVerifier.IDENTITY_HEADER),
+                request.getHeader(HttpHeaders.AUTHORIZATION));
+        if (authentication.isEmpty()) {
+            delegate.doFilter(request, response, filterChain);
+            return;
+        }
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication.get());
+        SecurityContextHolder.setContext(context);
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,39 @@
+package com.trendchat.auth.filter;
+
+import com.trendchat.auth.util.GatewayIdentityVerifier;
+import com.trendchat.trendchatcommon.filter.AuthorizationFilterWebFlux;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * 게이트웨이 식별 헤더가 유효하면 그 정보로 인증하고, 아니면 {@link AuthorizationFilterWebFlux}에 위임하는 WebFlux 필터입니다.
+ *
+ * @see GatewayIdentityVerifier
+ */
+public class GatewayIdentityFilterWebFlux implements WebFilter {
+
+    private final GatewayIdentityVerifier verifier;
+    private final AuthorizationFilterWebFlux delegate;
+
+    public GatewayIdentityFilterWebFlux(GatewayIdentityVerifier verifier,
+            AuthorizationFilterWebFlux delegate) {
+        this.verifier = verifier;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        return verifier.verify(
+                        request.getHeaders().getFirst(GatewayIdentityVerifier.IDENTITY_HEADER),
+                        request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION))
+                .map(authentication -> chain.filter(exchange)
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication)))
+                .orElseGet(() -> delegate.filter(exchange, chain));
+    }
+}
@@ -0,0 +1,107 @@
+package com.trendchat.auth.util;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.trendchat.trendchatcommon.util.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증이 끝난 액세스 토큰을 캐시하는 {@link JwtUtil}입니다.
+ * <p>
+ * SSE 재연결이나 폴링처럼 같은 토큰이 반복해서 들어오는 경우, 인증 필터가 매 요청마다 HMAC 서명 검증과 클레임 디코딩을 다시 하지 않도록
+ * 토큰의 SHA-256 digest → {@link DecodedJWT}를 보관합니다.
+ * </p>
+ * <ul>
+ *     <li>검증에 성공한 토큰만 캐시하며, 항목은 토큰의 {@code exp} 시각에 만료됩니다. {@code exp}가 없는 토큰은 캐시하지 않습니다.</li>
+ *     <li>블랙리스트 이벤트를 받으면 {@link RedisBlacklistChecker}가 해당 토큰/사용자 항목을 제거합니다.</li>
+ *     <li>블랙리스트 판정 자체는 캐시와 무관하게 매 요청 수행되므로, 캐시 적중이 차단된 토큰을 통과시키지 않습니다.</li>
+ * </ul>
+ */
+public class CachingJwtUtil extends JwtUtil {
+
+    private final Cache<String, DecodedJWT> verifiedTokens;
+    private final Timer verifyTimer;
+
+    public CachingJwtUtil(String accessSecretKey, String refreshSecretKey, long maxSize,
+            MeterRegistry meterRegistry) {
+        super(accessSecretKey, refreshSecretKey);
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExpireAtTokenExp())
+                .recordStats()
+                .build();
+        this.verifyTimer = Timer.builder("auth.jwt.verify")
+                .description("캐시 미스 시 JWT 서명 검증 및 디코딩 시간")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "auth.jwt.verified");
+    }
+
+    /**
+     * 토큰을 검증합니다. 이미 검증된 토큰이면 캐시된 결과를 반환하고, 아니면 서명을 검증한 뒤 결과를 캐시합니다. 검증 실패 시 예외는
+     * {@link JwtUtil#validateToken(String)}과 동일하게 전파됩니다.
+     *
+     * @param token 액세스 토큰
+     * @return 디코딩된 토큰
+     */
+    @Override
+    public DecodedJWT validateToken(String token) {
+        String key = RedisBlacklistChecker.digest(token);
+        DecodedJWT cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        DecodedJWT decoded = verifyTimer.record(() -> super.validateToken(token));
+        if (decoded != null && decoded.getExpiresAt() != null) {
+            verifiedTokens.put(key, decoded);
+        }
+        return decoded;
+    }
+
+    /**
+     * 블랙리스트에 등록된 토큰의 캐시 항목을 제거합니다.
+     *
+     * @param tokenDigest 토큰의 SHA-256 digest
+     */
+    public void invalidateToken(String tokenDigest) {
+        verifiedTokens.invalidate(tokenDigest);
+    }
+
+    /**
+     * 블랙리스트에 등록된 사용자의 캐시 항목을 모두 제거합니다. 사용자 차단은 드물게 발생하므로 전체 순회로 처리합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void invalidateUser(String userId) {
+        verifiedTokens.asMap().values().removeIf(decoded -> userId.equals(decoded.getSubject()));
+    }
+
+    // 항목 수명을 토큰의 exp까지로 제한
+    private static class ExpireAtTokenExp implements Expiry<String, DecodedJWT> {
+
+        @Override
+        public long expireAfterCreate(String key, DecodedJWT value, long currentTime) {
+            Date expiresAt = value.getExpiresAt();
+            long remainingMillis = expiresAt.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, DecodedJWT value, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, DecodedJWT value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
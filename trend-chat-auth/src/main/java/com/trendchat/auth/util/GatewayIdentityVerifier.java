@@ -0,0 +1,148 @@
+package com.trendchat.auth.util;
+
+import com.trendchat.trendchatcommon.auth.AuthUser;
+import com.trendchat.trendchatcommon.enums.UserRole;
+import com.trendchat.trendchatcommon.util.BlacklistChecker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * API 게이트웨이가 전달한 서명된 식별 헤더({@value #IDENTITY_HEADER})를 검증합니다.
+ * <p>
+ * 게이트웨이는 액세스 토큰 검증과 블랙리스트 확인을 마친 뒤
+ * {@code base64url(userId).base64url(nickname).role.exp.base64url(SHA-256(token)).signature} 형식의 헤더를 붙입니다. 이
+ * 클래스는 같은 {@code auth.identity.secret-key}로 HMAC-SHA256 서명, 만료 시각, 그리고 함께 전달된 {@code Authorization}
+ * 토큰의 digest 일치 여부만 확인하므로, JWT 디코딩과 Redis 조회 없이 {@link AuthUser}를 복원합니다. digest가 다르면 헤더를 다른
+ * 토큰과 함께 재사용한 것으로 보고 신뢰하지 않습니다. 로컬 블랙리스트 확인은 계속 수행합니다.
+ * </p>
+ * <p>
+ * 헤더가 없거나 검증에 실패하면 {@link Optional#empty()}를 반환하며, 호출 측은 기존 토큰 검증 필터로 처리합니다. 키가 설정되지 않으면 항상
+ * 비어 있는 결과를 반환합니다.
+ * </p>
+ */
+public class GatewayIdentityVerifier {
+
+    public static final String IDENTITY_HEADER = "X-Auth-Identity";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final BlacklistChecker blacklistChecker;
+    private final SecretKeySpec key;
+    // Mac은 스레드 안전하지 않으므로 스레드별로 복제해서 사용
+    private final ThreadLocal<Mac> macs;
+
+    private final Counter trusted;
+    private final Counter fallback;
+
+    public GatewayIdentityVerifier(
+            String secretKey,
+            BlacklistChecker blacklistChecker,
+            MeterRegistry meterRegistry
+    ) {
+        this.blacklistChecker = blacklistChecker;
+        this.key = StringUtils.hasText(secretKey)
+                ? new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM)
+                : null;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+        this.trusted = Counter.builder("auth.identity.fastpath")
+                .description("게이트웨이 식별 헤더로 인증을 처리한 요청 수")
+                .tag("result", "trusted")
+                .register(meterRegistry);
+        this.fallback = Counter.builder("auth.identity.fastpath")
+                .description("게이트웨이 식별 헤더로 인증을 처리한 요청 수")
+                .tag("result", "fallback")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 식별 헤더를 검증하여 인증 객체를 만듭니다.
+     *
+     * @param identity      {@value #IDENTITY_HEADER} 헤더 값
+     * @param authorization {@code Authorization} 헤더 값 (블랙리스트 확인용)
+     * @return 검증에 성공하면 {@link AuthUser}를 principal로 하는 인증 객체
+     */
+    public Optional<Authentication> verify(String identity, String authorization) {
+        Optional<Authentication> authentication = parse(identity, authorization);
+        (authentication.isPresent() ? trusted : fallback).increment();
+        return authentication;
+    }
+
+    private Optional<Authentication> parse(String identity, String authorization) {
+        if (key == null || identity == null || authorization == null
+                || !authorization.startsWith(BEARER_PREFIX)) {
+            return Optional.empty();
+        }
+        int signatureStart = identity.lastIndexOf('.');
+        String[] fields = identity.substring(0, Math.max(signatureStart, 0)).split("\\.", -1);
+        if (signatureStart < 0 || fields.length != 5) {
+            return Optional.empty();
+        }
+        try {
+            byte[] expected = macs.get().doFinal(
+                    identity.substring(0, signatureStart).getBytes(StandardCharsets.UTF_8));
+            byte[] actual = DECODER.decode(identity.substring(signatureStart + 1));
+            if (!MessageDigest.isEqual(expected, actual)) {
+                return Optional.empty();
+            }
+            long expiresAt = Long.parseLong(fields[3]);
+            if (expiresAt * 1000 <= System.currentTimeMillis()) {
+                return Optional.empty();
+            }
+            String accessToken = authorization.substring(BEARER_PREFIX.length()).trim();
+            if (!MessageDigest.isEqual(sha256(accessToken), DECODER.decode(fields[4]))) {
+                return Optional.empty();
+            }
+
+            String userId = decode(fields[0]);
+            if (blacklistChecker.isBlacklisted(userId, accessToken)) {
+                return Optional.empty();
+            }
+
+            UserRole userRole = UserRole.valueOf(fields[2]);
+            AuthUser authUser = new AuthUser(userId, decode(fields[1]), userRole);
+            return Optional.of(new UsernamePasswordAuthenticationToken(
+                    authUser, null, List.of(new SimpleGrantedAuthority(userRole.getAuthority()))));
+        } catch (IllegalArgumentException e) {
+            // 잘못된 Base64, 숫자, 권한 값
+            return Optional.empty();
+        }
+    }
+
+    private String decode(String field) {
+        return new String(DECODER.decode(field), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.trendchat.auth.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trendchat.auth.dto.BlacklistEvent;
+import com.trendchat.trendchatcommon.util.BlacklistChecker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code RedisBlacklistChecker}는 {@link BlacklistChecker} 인터페이스의 구현체로, Redis를 활용하여 사용자 ID 또는 액세스
+ * 토큰이 블랙리스트에 등록되었는지 확인합니다.
+ * <p>
+ * 인증 요청마다 Redis를 두 번 조회하지 않도록, 블랙리스트에 등록된 사용자 ID와 액세스 토큰의 SHA-256 digest를 만료 시각과 함께 로컬에
+ * 보관하고 로컬에서만 판정합니다. 로컬 블랙리스트는 다음 두 경로로 최신 상태를 유지합니다.
+ * </p>
+ * <ul>
+ *     <li>user-service가 블랙리스트 등록 시 발행하는 {@value #BLACKLIST_CHANNEL} 채널 이벤트 → 즉시 반영</li>
+ *     <li>{@code auth.blacklist.resync-interval}(기본 30초)마다 블랙리스트 인덱스({@value #USER_INDEX_KEY},
+ *     {@value #TOKEN_INDEX_KEY})를 읽어 재동기화 → 이벤트 유실 시에도 최대 이 주기 안에 반영</li>
+ * </ul>
+ * <p>
+ * 인덱스는 user-service가 블랙리스트 등록 시 함께 기록하는 ZSET(멤버: 사용자 ID 또는 토큰 digest, 점수: 만료 시각 epoch ms)이므로,
+ * 재동기화는 키 공간 전체를 SCAN하지 않고 만료되지 않은 범위만 조회합니다. 조회 결과는 로컬 블랙리스트에 병합되며, 조회를 시작한 뒤 이벤트로
+ * 추가된 항목은 조회 결과에 없더라도 유지됩니다.
+ * </p>
+ * <p>
+ * 첫 동기화가 끝나기 전에는 기존처럼 Redis를 직접 조회합니다.
+ * </p>
+ *
+ * @see com.trendchat.trendchatcommon.util.BlacklistChecker
+ * @see org.springframework.data.redis.core.RedisTemplate
+ */
+@Slf4j
+public class RedisBlacklistChecker implements BlacklistChecker, MessageListener {
+
+    public static final String BLACKLIST_CHANNEL = "auth.blacklist";
+
+    public static final String USER_INDEX_KEY = "auth:blacklist:users";
+    public static final String TOKEN_INDEX_KEY = "auth:blacklist:tokens";
+
+    private static final String USER_BLACKLIST_PREFIX = "blacklisted_user:";
+    private static final String ACCESS_TOKEN_BLACKLIST_PREFIX = "access_token_blacklist:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CachingJwtUtil jwtUtil;
+
+    // 사용자 ID → 항목
+    private final Map<String, Entry> blacklistedUsers = new ConcurrentHashMap<>();
+    // 액세스 토큰 SHA-256 digest → 항목
+    private final Map<String, Entry> blacklistedTokens = new ConcurrentHashMap<>();
+    private volatile boolean synced;
+
+    public RedisBlacklistChecker(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+            CachingJwtUtil jwtUtil) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.jwtUtil = jwtUtil;
+    }
+
+    /**
+     * 제공된 {@code userId} 또는 {@code accessToken} 중 하나라도 블랙리스트에 존재하는지 확인합니다. 이 메서드는 둘 중 적어도 하나가
+     * 블랙리스트에 있다면 {@code true}를 반환합니다.
+     *
+     * @param userId      확인할 사용자 ID입니다.
+     * @param accessToken 확인할 액세스 토큰 문자열입니다. 로컬 블랙리스트에서는 SHA-256 digest로 비교합니다.
+     * @return 사용자 ID 또는 액세스 토큰 (또는 둘 다)이 블랙리스트에 있다면 {@code true}, 그렇지 않으면 {@code false}를 반환합니다.
+     */
+    @Override
+    public boolean isBlacklisted(String userId, String accessToken) {
+        if (!synced) {
+            return isBlacklistedInRedis(userId, accessToken);
+        }
+        long now = System.currentTimeMillis();
+        return isActive(blacklistedUsers, userId, now)
+                || isActive(blacklistedTokens, digest(accessToken), now);
+    }
+
+    /**
+     * 다른 인스턴스에서 발행한 블랙리스트 등록 이벤트를 로컬 블랙리스트에 즉시 반영하고, 검증 토큰 캐시에서도 제거합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            BlacklistEvent event = objectMapper.readValue(message.getBody(), BlacklistEvent.class);
+            long now = System.currentTimeMillis();
+            Entry entry = new Entry(now + event.ttlMillis(), now);
+            switch (event.type()) {
+                case USER -> {
+                    blacklistedUsers.put(event.value(), entry);
+                    jwtUtil.invalidateUser(event.value());
+                }
+                case TOKEN -> {
+                    blacklistedTokens.put(event.value(), entry);
+                    jwtUtil.invalidateToken(event.value());
+                }
+            }
+        } catch (Exception e) {
+            log.error("Blacklist event 처리 실패", e);
+        }
+    }
+
+    /**
+     * 기동 직후 첫 동기화를 수행합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        resync();
+    }
+
+    /**
+     * 블랙리스트 인덱스를 읽어 로컬 블랙리스트에 병합합니다. 만료된 항목과, 조회 시작 전부터 있었지만 인덱스에서 사라진 항목은 이때
+     * 정리됩니다.
+     */
+    @Scheduled(fixedDelayString = "${auth.blacklist.resync-interval:30s}",
+            initialDelayString = "${auth.blacklist.resync-interval:30s}")
+    public void resync() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            Map<String, Long> users = load(USER_INDEX_KEY, startedAt);
+            Map<String, Long> tokens = load(TOKEN_INDEX_KEY, startedAt);
+            merge(blacklistedUsers, users, startedAt);
+            merge(blacklistedTokens, tokens, startedAt);
+            synced = true;
+        } catch (Exception e) {
+            log.warn("Blacklist resync failed, keeping previous entries", e);
+        }
+    }
+
+    /**
+     * 블랙리스트 종류에 해당하는 인덱스 키를 반환합니다.
+     *
+     * @param type 블랙리스트 종류
+     * @return 인덱스 ZSET 키
+     */
+    public static String indexKey(BlacklistEvent.Type type) {
+        return type == BlacklistEvent.Type.USER ? USER_INDEX_KEY : TOKEN_INDEX_KEY;
+    }
+
+    /**
+     * 액세스 토큰의 SHA-256 digest(hex)를 반환합니다. 블랙리스트 이벤트에는 토큰 원문 대신 이 값을 사용합니다.
+     *
+     * @param accessToken 액세스 토큰 문자열
+     * @return SHA-256 digest (hex)
+     */
+    public static String digest(String accessToken) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(accessToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean isActive(Map<String, Entry> entries, String key, long now) {
+        Entry entry = entries.get(key);
+        return entry != null && entry.expireAt() > now;
+    }
+
+    private boolean isBlacklistedInRedis(String userId, String accessToken) {
+        boolean userBlacklisted = Boolean.TRUE.equals(redisTemplate
+                .hasKey(USER_BLACKLIST_PREFIX + userId));
+
+        boolean tokenBlacklisted = Boolean.TRUE.equals(redisTemplate
+                .hasKey(ACCESS_TOKEN_BLACKLIST_PREFIX + accessToken));
+
+        return userBlacklisted || tokenBlacklisted;
+    }
+
+    // 만료된 멤버를 정리한 뒤 남은 멤버와 만료 시각을 조회
+    private Map<String, Long> load(String indexKey, long now) {
+        ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+        zSet.removeRangeByScore(indexKey, Double.NEGATIVE_INFINITY, now);
+        Set<TypedTuple<String>> members = zSet.rangeByScoreWithScores(indexKey, now, Double.POSITIVE_INFINITY);
+
+        Map<String, Long> entries = new HashMap<>();
+        if (members != null) {
+            members.forEach(member -> entries.put(member.getValue(), member.getScore().longValue()));
+        }
+        return entries;
+    }
+
+    // 조회 결과로 갱신하되, 조회 시작 이후 이벤트로 추가된 항목은 유지 (이벤트와 조회가 엇갈려도 차단이 풀리지 않도록)
+    private void merge(Map<String, Entry> entries, Map<String, Long> snapshot, long startedAt) {
+        snapshot.forEach((key, expireAt) -> entries.merge(key, new Entry(expireAt, startedAt),
+                (current, loaded) -> current.addedAt() >= startedAt && current.expireAt() > loaded.expireAt()
+                        ? current
+                        : loaded));
+        long now = System.currentTimeMillis();
+        entries.entrySet().removeIf(entry -> entry.getValue().expireAt() <= now
+                || (entry.getValue().addedAt() < startedAt && !snapshot.containsKey(entry.getKey())));
+    }
+
+    /**
+     * 로컬 블랙리스트 항목입니다.
+     *
+     * @param expireAt 만료 시각 (epoch ms)
+     * @param addedAt  로컬에 반영된 시각 (epoch ms)
+     */
+    private record Entry(long expireAt, long addedAt) {
+    }
+}
@@ -1,6 +1,8 @@
 package com.trendchat.userservice.config;
 
+import com.trendchat.auth.util.CachingJwtUtil;
 import com.trendchat.trendchatcommon.util.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
@@ -26,14 +28,18 @@ public class JwtUtilConfig {
     @Value("${jwt.token.refresh.secret.key}")
     private String refreshSecretKey;
 
+    @Value("${jwt.token.cache.max-size:10000}")
+    private long tokenCacheMaxSize;
+
     /**
      * {@link JwtUtil} 빈을 생성하여 Spring 컨텍스트에 등록합니다. 주입받은 액세스 토큰 비밀 키와 리프레시 토큰 비밀 키를 사용하여
-     * {@link JwtUtil} 인스턴스를 초기화합니다.
+     * {@link JwtUtil} 인스턴스를 초기화합니다. 검증된 토큰은 {@link CachingJwtUtil}이 토큰 만료 시각까지 캐시합니다.
      *
+     * @param meterRegistry 토큰 캐시 메트릭 등록용
      * @return 초기화된 {@link JwtUtil} 인스턴스
      */
     @Bean
-    public JwtUtil jwtUtil() {
-        return new JwtUtil(accessSecretKey, refreshSecretKey);
+    public CachingJwtUtil jwtUtil(MeterRegistry meterRegistry) {
+        return new CachingJwtUtil(accessSecretKey, refreshSecretKey, tokenCacheMaxSize, meterRegistry);
     }
 }
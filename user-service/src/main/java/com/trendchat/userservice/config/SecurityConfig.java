@@ -1,5 +1,7 @@
 package com.trendchat.userservice.config;
 
+import com.trendchat.auth.filter.GatewayIdentityFilterMvc;
+import com.trendchat.auth.util.GatewayIdentityVerifier;
 import com.trendchat.trendchatcommon.filter.AuthorizationFilterMvc;
 import com.trendchat.trendchatcommon.util.BlacklistChecker;
 import com.trendchat.trendchatcommon.util.JwtUtil;
@@ -79,16 +81,19 @@ public class SecurityConfig {
 
     /**
      * JWT 기반의 권한 부여(인가)를 처리하는 {@link AuthorizationFilterMvc} 빈을 생성합니다. 이 필터는 요청 헤더의 JWT를 검증하고 사용자
-     * 권한을 설정합니다.
+     * 권한을 설정합니다. 게이트웨이가 서명한 식별 헤더가 유효하면 JWT 검증 없이 그 정보로 인증합니다.
      *
      * @param blacklistChecker 토큰 및 사용자 블랙리스트 확인을 위한 {@link BlacklistChecker}
-     * @return 설정된 {@link AuthorizationFilterMvc} 인스턴스
+     * @param identityVerifier 게이트웨이 식별 헤더 검증기
+     * @return 설정된 {@link GatewayIdentityFilterMvc} 인스턴스
      */
     @Bean
-    public AuthorizationFilterMvc authorizationFilter(
-            BlacklistChecker blacklistChecker
+    public GatewayIdentityFilterMvc authorizationFilter(
+            BlacklistChecker blacklistChecker,
+            GatewayIdentityVerifier identityVerifier
     ) {
-        return new AuthorizationFilterMvc(jwtUtil, blacklistChecker);
+        return new GatewayIdentityFilterMvc(identityVerifier,
+                new AuthorizationFilterMvc(jwtUtil, blacklistChecker));
     }
 
     /**
@@ -199,7 +204,7 @@ public class SecurityConfig {
      *
      * @param http                 HTTP 보안 설정을 위한 {@link HttpSecurity} 객체
      * @param authenticationFilter 로그인 인증을 처리하는 사용자 정의 {@link AuthenticationFilter} 빈
-     * @param authorizationFilter  JWT 기반 권한 부여를 처리하는 사용자 정의 {@link AuthorizationFilterMvc} 빈
+     * @param authorizationFilter  JWT 기반 권한 부여를 처리하는 사용자 정의 {@link GatewayIdentityFilterMvc} 빈
      * @return 구성된 {@link SecurityFilterChain}
      * @throws Exception 필터 체인 구성 중 발생할 수 있는 예외
      */
@@ -207,7 +212,7 @@ public class SecurityConfig {
     public SecurityFilterChain filterChain(
             HttpSecurity http,
             AuthenticationFilter authenticationFilter,
-            AuthorizationFilterMvc authorizationFilter,
+            GatewayIdentityFilterMvc authorizationFilter,
             OAuth2LoginSuccessHandler oAuth2LoginSuccessHandler
     ) throws Exception {
         return http
@@ -0,0 +1,61 @@
+package com.trendchat.userservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trendchat.auth.dto.BlacklistEvent;
+import com.trendchat.auth.util.RedisBlacklistChecker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code BlacklistEventPublisher}는 블랙리스트 등록을 블랙리스트 인덱스(ZSET)에 기록하고 Redis
+ * Pub/Sub({@value RedisBlacklistChecker#BLACKLIST_CHANNEL})으로 알려, 모든 서비스의 {@link RedisBlacklistChecker} 로컬
+ * 블랙리스트에 즉시 반영되도록 합니다.
+ * <p>
+ * 발행에 실패하더라도 각 서비스가 주기적으로 인덱스를 다시 읽으므로, 반영이 재동기화 주기만큼 늦어질 뿐 누락되지는 않습니다. 액세스 토큰은 원문
+ * 대신 SHA-256 digest로 기록하고 전달합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlacklistEventPublisher {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 사용자 블랙리스트 등록을 발행합니다.
+     *
+     * @param userId    블랙리스트에 등록된 사용자 ID
+     * @param ttlMillis 블랙리스트 유지 시간 (밀리초)
+     */
+    public void publishUser(String userId, long ttlMillis) {
+        publish(new BlacklistEvent(BlacklistEvent.Type.USER, userId, ttlMillis));
+    }
+
+    /**
+     * 액세스 토큰 블랙리스트 등록을 발행합니다.
+     *
+     * @param accessToken 블랙리스트에 등록된 액세스 토큰
+     * @param ttlMillis   블랙리스트 유지 시간 (밀리초)
+     */
+    public void publishToken(String accessToken, long ttlMillis) {
+        publish(new BlacklistEvent(BlacklistEvent.Type.TOKEN, RedisBlacklistChecker.digest(accessToken), ttlMillis));
+    }
+
+    private void publish(BlacklistEvent event) {
+        try {
+            redisTemplate.opsForZSet().add(RedisBlacklistChecker.indexKey(event.type()), event.value(),
+                    System.currentTimeMillis() + event.ttlMillis());
+        } catch (Exception e) {
+            log.error("Blacklist index update 실패: type={}", event.type(), e);
+        }
+        try {
+            redisTemplate.convertAndSend(RedisBlacklistChecker.BLACKLIST_CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            log.error("Blacklist event publish 실패: type={}", event.type(), e);
+        }
+    }
+}
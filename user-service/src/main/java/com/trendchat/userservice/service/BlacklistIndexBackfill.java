@@ -0,0 +1,84 @@
+package com.trendchat.userservice.service;
+
+import com.trendchat.auth.util.RedisBlacklistChecker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code BlacklistIndexBackfill}은 블랙리스트 인덱스가 도입되기 전에 등록된 블랙리스트 키를 인덱스에 옮겨 담습니다.
+ * <p>
+ * 기동 시 한 번 {@code blacklisted_user:*}, {@code access_token_blacklist:*} 키를 SCAN하여 남은 TTL로 만료 시각을 계산하고, 인덱스에
+ * 없는 항목만 추가합니다. 이미 인덱스에 있는 항목은 건드리지 않으므로 여러 인스턴스가 동시에 실행해도 안전합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlacklistIndexBackfill {
+
+    private static final String USER_BLACKLIST_PREFIX = "blacklisted_user:";
+    private static final String ACCESS_TOKEN_BLACKLIST_PREFIX = "access_token_blacklist:";
+    // Spring Data Redis가 함께 만드는 보조 키 (만료 추적용)
+    private static final String PHANTOM_SUFFIX = ":phantom";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int users = backfill(USER_BLACKLIST_PREFIX, RedisBlacklistChecker.USER_INDEX_KEY, false);
+            int tokens = backfill(ACCESS_TOKEN_BLACKLIST_PREFIX, RedisBlacklistChecker.TOKEN_INDEX_KEY, true);
+            log.info("Blacklist index backfilled: users={}, tokens={}", users, tokens);
+        } catch (Exception e) {
+            log.warn("Blacklist index backfill failed", e);
+        }
+    }
+
+    // prefix로 시작하는 키를 SCAN하고 남은 TTL을 파이프라인으로 조회하여 인덱스에 추가
+    private int backfill(String prefix, String indexKey, boolean digestId) {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(key -> {
+                if (!key.endsWith(PHANTOM_SUFFIX)) {
+                    keys.add(key);
+                }
+            });
+        }
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        List<Object> ttls = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            keys.forEach(key -> connection.keyCommands().pTtl(key.getBytes(StandardCharsets.UTF_8)));
+            return null;
+        });
+
+        long now = System.currentTimeMillis();
+        int added = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            long ttl = ((Number) ttls.get(i)).longValue();
+            if (ttl == -2) {
+                // SCAN 이후 만료됨
+                continue;
+            }
+            String id = keys.get(i).substring(prefix.length());
+            double expireAt = ttl < 0 ? Double.POSITIVE_INFINITY : now + ttl;
+            if (Boolean.TRUE.equals(redisTemplate.opsForZSet()
+                    .addIfAbsent(indexKey, digestId ? RedisBlacklistChecker.digest(id) : id, expireAt))) {
+                added++;
+            }
+        }
+        return added;
+    }
+}
@@ -45,6 +45,7 @@ public class TokenServiceImpl implements TokenService {
     private final UserBlacklistRepository userBlacklistRepository;
     private final UserService userService;
     private final JwtUtil jwtUtil;
+    private final BlacklistEventPublisher blacklistEventPublisher;
 
     /**
      * 주어진 {@code RefreshToken} 객체를 데이터베이스에 저장합니다.
@@ -87,6 +88,7 @@ public class TokenServiceImpl implements TokenService {
             userService.lockAccount(info.getSubject());
             refreshTokenRepository.delete(refreshToken);
             userBlacklistRepository.save(new BlacklistedUser(info.getSubject(), 30 * 60L));
+            blacklistEventPublisher.publishUser(info.getSubject(), 30 * 60 * 1000L);
 
             throw new SecurityException("Detected tampered refresh token");
         } else {
@@ -153,6 +155,7 @@ public class TokenServiceImpl implements TokenService {
         long ttl = expirationMillis / 1000;
         BlacklistedAccessToken blacklisted = new BlacklistedAccessToken(token, ttl);
         accessTokenBlacklistRepository.save(blacklisted);
+        blacklistEventPublisher.publishToken(token, ttl * 1000);
         log.info("Access token blacklisted for {} seconds: {}", ttl, token);
     }
 
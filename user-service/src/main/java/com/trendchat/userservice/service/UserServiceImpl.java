@@ -37,6 +37,7 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserBlacklistRepository userBlacklistRepository;
     private final PasswordEncoder passwordEncoder;
+    private final BlacklistEventPublisher blacklistEventPublisher;
 
     /**
      * 특정 이메일 주소가 이미 존재하는지 확인합니다. 이메일이 이미 존재할 경우, {@link IllegalStateException}을 발생시킵니다.
@@ -149,6 +150,7 @@ public class UserServiceImpl implements UserService {
         );
 
         userBlacklistRepository.save(blacklisted);
+        blacklistEventPublisher.publishUser(userId, ttlInSeconds * 1000);
         log.info("User [{}] has been blacklisted for {} seconds", userId, ttlInSeconds);
     }
 